@@ -16,6 +16,7 @@ import { CustomerViewCoursesComponent } from './components/customer-view-courses
 import { MyOrdersComponent } from './components/my-orders/my-orders.component';
 import { PlaceOrderComponent } from './components/place-order/place-order.component';
 import { UserViewReviewsComponent } from './components/user-view-reviews/user-view-reviews.component';
+import { DashboardComponent } from './components/dashboard/dashboard.component';
 
 const routes: Routes = [
   {path:'',redirectTo:'home',pathMatch:'full'},
@@ -31,6 +32,7 @@ const routes: Routes = [
   {path:'admin/add/course',component:AddCourseComponent,canActivate: [AuthguardGuard], data: { role: 'admin' }},
   {path:'admin/view/reviews',component:ViewReviewComponent,canActivate: [AuthguardGuard], data: { role: 'admin' }},
   {path:'admin/view/orders',component:ViewOrdersComponent,canActivate: [AuthguardGuard], data: { role: 'admin' }},
+  {path:'admin/dashboard',component:DashboardComponent,canActivate: [AuthguardGuard], data: { role: 'admin' }},
   {path:'user/view/orders',component:MyOrdersComponent,canActivate:[AuthguardGuard],data:{role:'user'}},
   {path:'payments',component:PlaceOrderComponent,canActivate:[AuthguardGuard],data:{role:'user'}},
   {path:'my-orders',component:MyOrdersComponent,canActivate:[AuthguardGuard],data:{role:'user'}},
@@ -1,6 +1,7 @@
 import { Component, OnInit } from '@angular/core';
 import { FormBuilder, FormGroup, Validators } from '@angular/forms';
 import { ActivatedRoute, Router } from '@angular/router';
+import { Course } from 'src/app/models/course.model';
 import { Customer } from 'src/app/models/customer.model';
 import { Review } from 'src/app/models/review.model';
 import { ReviewService } from 'src/app/services/review.service';
@@ -13,6 +14,7 @@ import { ReviewService } from 'src/app/services/review.service';
 export class AddReviewComponent implements OnInit {
   reviewForm: FormGroup;
   customerId: number;
+  courseId: number;
   showModal: boolean = false;
 
   constructor(
@@ -32,6 +34,7 @@ export class AddReviewComponent implements OnInit {
   ngOnInit(): void {
     this.customerId = +this.actRoute.snapshot.paramMap.get('id');
     this.actRoute.queryParams.subscribe(params => {
+      this.courseId = params['courseId'] ? +params['courseId'] : null;
       if (params['courseType']) {
         this.reviewForm.get('subject').setValue(params['courseDetails']);
       }
@@ -42,6 +45,9 @@ export class AddReviewComponent implements OnInit {
     if (this.reviewForm.valid) {
       const newReview: Review = this.reviewForm.value;
       newReview.customer = { customerId: this.reviewForm.get('customerId').value } as Customer;
+      if (this.courseId) {
+        newReview.course = { courseId: this.courseId } as Course;
+      }
       newReview.dateCreated = new Date().toISOString();
       this.reviewService.addReview(newReview).subscribe(() => {
         this.showModal = true;
@@ -55,7 +55,8 @@ export class CustomerViewCoursesComponent implements OnInit {
         cartId: cart.cartId,
         courses: [...cart.courses, course],
         totalAmount: cart.totalAmount + course.coursePrice,
-        customer: this.customer
+        customer: this.customer,
+        version: cart.version
       };
       this.cartService.updateCart(updatedCart.cartId, updatedCart).subscribe(() => {
         this.showToast(`${course.courseDetails} has been added to your cart.`);
@@ -1,4 +1,7 @@
 import { Component, OnInit } from '@angular/core';
+import { AdminSummary } from 'src/app/models/admin-summary.model';
+import { SalesReport } from 'src/app/models/sales-report.model';
+import { OrderService } from 'src/app/services/order.service';
 
 @Component({
   selector: 'app-dashboard',
@@ -6,11 +9,35 @@ import { Component, OnInit } from '@angular/core';
   styleUrls: ['./dashboard.component.css']
 })
 export class DashboardComponent implements OnInit {
+  summary: AdminSummary | null = null;
+  report: SalesReport | null = null;
+  granularity: string = 'day';
+  status: string = '';
+  isLoading: boolean = false;
 
-  constructor() { }
+  constructor(private readonly orderService: OrderService) { }
 
   ngOnInit(): void {
-    //NO SONAR
+    this.loadSummary();
+    this.loadReport();
   }
 
+  loadSummary() {
+    this.orderService.getAdminSummary().subscribe((data) => {
+      this.summary = data;
+    });
+  }
+
+  loadReport() {
+    this.isLoading = true;
+    this.orderService.getSalesReport(this.granularity, this.status).subscribe({
+      next: (data) => {
+        this.report = data;
+        this.isLoading = false;
+      },
+      error: () => {
+        this.isLoading = false;
+      }
+    });
+  }
 }
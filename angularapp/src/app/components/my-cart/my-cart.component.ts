@@ -33,7 +33,7 @@ export class MyCartComponent implements OnInit {
         this.cartService.getCartByUserId(id).subscribe((data) => {
           this.cartId = data.cartId;
           this.cartItems = data.courses;
-          this.calculateTotal();
+          this.totalAmount = data.totalAmount;
         });
       }
     });
@@ -45,10 +45,6 @@ export class MyCartComponent implements OnInit {
     });
   }
 
-  calculateTotal(): void {
-    this.totalAmount = this.cartItems.reduce((sum, item) => sum + item.coursePrice, 0);
-  }
-
   enrollNow(): void {
     this.checkoutService.setCartItems(this.cartItems);
     this.checkoutService.setTotalAmount(this.totalAmount);
@@ -59,6 +59,7 @@ export class MyOrdersComponent implements OnInit {
     if (this.customer) {
       this.router.navigate(['/addreview', this.customer.customerId], {
         queryParams: {
+          courseId: course.courseId,
           courseType: course.courseType,
           courseDetails: course.courseDetails
         }
@@ -66,6 +67,7 @@ export class MyOrdersComponent implements OnInit {
     } else {
       this.router.navigate(['/addreview', this.userId], {
         queryParams: {
+          courseId: course.courseId,
           courseType: course.courseType,
           courseDetails: course.courseDetails
         }
@@ -41,7 +41,8 @@ export class NavbarComponent implements OnInit {
         { label: 'Add Course', route: '/admin/add/course' },
         { label: 'View Courses', route: '/admin/view/courses' },
         { label: 'View Review', route: '/admin/view/reviews' },
-        { label: 'View Orders', route: 'admin/view/orders' }
+        { label: 'View Orders', route: 'admin/view/orders' },
+        { label: 'Dashboard', route: '/admin/dashboard' }
       ];
     } else if (role.toLowerCase() === 'user') {
       this.navItems = [
@@ -1,7 +1,6 @@
 import { Component, OnInit } from '@angular/core';
 import { Router } from '@angular/router';
 import { Customer } from 'src/app/models/customer.model';
-import { CartService } from 'src/app/services/cart.service';
 import { CheckoutService } from 'src/app/services/checkout.service';
 import { OrderService } from 'src/app/services/order.service';
 import { UserStoreService } from 'src/app/services/user-store.service';
@@ -23,8 +22,7 @@ export class PlaceOrderComponent implements OnInit {
     private readonly router: Router,
     private readonly checkoutService: CheckoutService,
     private readonly userStore: UserStoreService,
-    private readonly orderService: OrderService,
-    private readonly cartService: CartService
+    private readonly orderService: OrderService
   ) { }
 
   ngOnInit(): void {
@@ -41,19 +39,10 @@ export class PlaceOrderComponent implements OnInit {
   }
 
   makePayment(): void {
-    const orderData = {
-      orderPrice: this.totalAmount,
-      courses: this.cartItems,
-      customer: this.customer,
-      status: 'pending'
-    };
-
-    this.orderService.addOrder(orderData).subscribe(() => {
-      this.cartService.clearCart(this.userId).subscribe(() => {
-        this.checkoutService.clearData();
-        const paymentSuccessModal = new Modal(document.getElementById('paymentSuccessModal'));
-        paymentSuccessModal.show();
-      });
+    this.orderService.checkout(this.userId).subscribe(() => {
+      this.checkoutService.clearData();
+      const paymentSuccessModal = new Modal(document.getElementById('paymentSuccessModal'));
+      paymentSuccessModal.show();
     });
   }
 
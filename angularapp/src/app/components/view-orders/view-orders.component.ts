@@ -22,11 +22,6 @@ export class ViewOrdersComponent implements OnInit {
       this.isLoading=false;
     })
   }
-  calculateTotalPrices() {
-    this.orders.forEach(order => {
-      order.orderPrice = order.courses.reduce((sum, course) => sum + course.coursePrice, 0);
-    });
-  }
   updateOrderStatus(orderId: number, status: string) {
     this.orderService.updateOrderStatus(orderId, status).subscribe((updatedOrder) => {
       this.orders = this.orders.map(order => order.orderId === orderId ? updatedOrder : order);
@@ -0,0 +1,16 @@
+export interface OrderStatusCount {
+    status: string;
+    orderCount: number;
+    revenue: number;
+}
+
+export interface AdminSummary {
+    users: number;
+    customers: number;
+    courses: number;
+    reviews: number;
+    orders: number;
+    revenue: number;
+    ordersByStatus: OrderStatusCount[];
+    generatedAt: number;
+}
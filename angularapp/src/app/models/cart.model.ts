@@ -6,5 +6,6 @@ export interface Cart {
     customer?: Customer;
     courses?: Course[];
     totalAmount?: number;
+    version?: number;
   }
   
\ No newline at end of file
@@ -4,4 +4,6 @@ export interface Course {
     courseImageUrl?:string;
     courseDetails?:string;
     coursePrice?:number;
+    ratingCount?:number;
+    averageRating?:number;
 }
@@ -7,4 +7,5 @@ export interface Order {
     courses?: Course[];
     customer?: Customer;
     status?:string;
+    version?: number;
   }
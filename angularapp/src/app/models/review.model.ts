@@ -1,3 +1,4 @@
+import { Course } from "./course.model";
 import { Customer } from "./customer.model";
 export interface Review {
     reviewId?: number;
@@ -6,4 +7,5 @@ export interface Review {
     rating?: number;
     dateCreated?: string;
     customer?: Customer;
+    course?: Course;
 }
@@ -0,0 +1,21 @@
+export interface SalesPeriod {
+    periodStart: string;
+    orderCount: number;
+    revenue: number;
+}
+
+export interface CourseTypeSales {
+    courseType: string;
+    sales: number;
+    revenue: number;
+}
+
+export interface SalesReport {
+    granularity: string;
+    from: string;
+    to: string;
+    orderCount: number;
+    revenue: number;
+    periods: SalesPeriod[];
+    courseTypes: CourseTypeSales[];
+}
@@ -2,6 +2,8 @@ import { HttpClient } from '@angular/common/http';
 import { Injectable } from '@angular/core';
 import { Observable } from 'rxjs';
 import { Order } from '../models/order.model';
+import { SalesReport } from '../models/sales-report.model';
+import { AdminSummary } from '../models/admin-summary.model';
 import { BACKEND_BASE_URL } from '../constant';
 @Injectable({
   providedIn: 'root'
@@ -11,6 +13,10 @@ export class OrderService {
   addOrder(orderData:any):Observable<any>{
     return this.http.post<Order>(`${BACKEND_BASE_URL}/api/order`,orderData);
   }
+  checkout(userId:number):Observable<any>{
+    const headers = { 'Idempotency-Key': crypto.randomUUID() };
+    return this.http.post<Order>(`${BACKEND_BASE_URL}/api/order/checkout/${userId}`,{},{ headers });
+  }
   cancelOrder(orderId:any):Observable<any>{
     return this.http.delete<Order>(`${BACKEND_BASE_URL}/api/order`+"/"+orderId);
   }
@@ -35,6 +41,16 @@ export class OrderService {
   updateOrderStatus(orderId: number, status: string): Observable<Order> {
     return this.http.put<Order>(`${BACKEND_BASE_URL}/api/order/${orderId}/status`, status);
   }
+  getSalesReport(granularity: string, status?: string): Observable<SalesReport> {
+    const params: any = { granularity };
+    if (status) {
+      params.status = status;
+    }
+    return this.http.get<SalesReport>(`${BACKEND_BASE_URL}/api/analytics/sales`, { params });
+  }
+  getAdminSummary(): Observable<AdminSummary> {
+    return this.http.get<AdminSummary>(`${BACKEND_BASE_URL}/api/analytics/summary`);
+  }
   getOrderById(orderId: number): Observable<Order> {
     return this.http.get<Order>(`${BACKEND_BASE_URL}/orders/${orderId}`);
   }
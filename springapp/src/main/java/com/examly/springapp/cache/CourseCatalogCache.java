@@ -0,0 +1,144 @@
+package com.examly.springapp.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.examly.springapp.model.Course;
+
+/**
+ * Read-through, in-process cache of the public course catalog.
+ *
+ * Holds one immutable snapshot of every course, indexed by ID, that is loaded
+ * on the first read and reused until it expires or a course is added, updated or
+ * deleted. Catalogs larger than the configured maximum are not cached at all.
+ *
+ * @author Sannappa Priya
+ */
+@Component
+public class CourseCatalogCache {
+
+    private final int maxCourses;
+    private final long ttlMillis;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Constructor to read the cache limits from configuration.
+     *
+     * @param maxCourses the largest catalog that will be cached.
+     * @param ttlSeconds how long a snapshot is served before it is reloaded.
+     */
+    public CourseCatalogCache(@Value("${catalog.cache.max-courses:5000}") int maxCourses,
+            @Value("${catalog.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxCourses = maxCourses;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * Returns every course, loading the catalog through `loader` on a miss.
+     *
+     * @param loader supplies the full catalog from the database.
+     * @return an unmodifiable list of all courses.
+     */
+    public List<Course> getAll(Supplier<List<Course>> loader) {
+        Snapshot current = snapshot;
+        if (current != null && current.isFresh()) {
+            hits.incrementAndGet();
+            return current.courses;
+        }
+        misses.incrementAndGet();
+        long loadGeneration = generation.get();
+        List<Course> loaded = loader.get();
+        if (loaded.size() > maxCourses) {
+            return loaded;
+        }
+        Snapshot fresh = new Snapshot(loaded, System.currentTimeMillis() + ttlMillis);
+        synchronized (this) {
+            // A write that raced with this load has already invalidated; don't resurrect stale data.
+            if (generation.get() == loadGeneration) {
+                snapshot = fresh;
+            }
+        }
+        return fresh.courses;
+    }
+
+    /**
+     * Returns a course from the current snapshot without touching the database.
+     *
+     * @param courseId the ID of the course.
+     * @return the cached course, or null if there is no fresh snapshot or no such course.
+     */
+    public Course get(long courseId) {
+        Snapshot current = snapshot;
+        if (current != null && current.isFresh()) {
+            Course course = current.byId.get(courseId);
+            if (course != null) {
+                hits.incrementAndGet();
+                return course;
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Drops the current snapshot; called after every course write.
+     */
+    public void invalidate() {
+        synchronized (this) {
+            generation.incrementAndGet();
+            snapshot = null;
+        }
+        invalidations.incrementAndGet();
+    }
+
+    /**
+     * Generation counter bumped on every invalidation, for caches derived from the catalog.
+     *
+     * @return the current catalog generation.
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    private static final class Snapshot {
+        private final List<Course> courses;
+        private final Map<Long, Course> byId;
+        private final long expiresAt;
+
+        Snapshot(List<Course> courses, long expiresAt) {
+            this.courses = List.copyOf(courses);
+            Map<Long, Course> index = new LinkedHashMap<>();
+            for (Course course : courses) {
+                index.put(course.getCourseId(), course);
+            }
+            this.byId = index;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isFresh() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.examly.springapp.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.examly.springapp.service.CourseService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Pre-encoded JSON snapshot of the course catalog with a strong ETag.
+ *
+ * The catalog is serialized once, and gzip'd once, per catalog generation; every
+ * `GET /api/course` in between is answered from these bytes, and a matching
+ * `If-None-Match` is answered without touching the service layer or Jackson.
+ * The snapshot is rebuilt when `CourseCatalogCache` is invalidated or its TTL elapses.
+ *
+ * @author Sannappa Priya
+ */
+@Component
+public class CourseCatalogSnapshot {
+
+    private final CourseService courseService;
+    private final CourseCatalogCache catalogCache;
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+    private volatile Encoded current;
+
+    /**
+     * Constructor to inject the necessary beans.
+     *
+     * @param courseService the service supplying the catalog.
+     * @param catalogCache  the catalog cache whose generation drives rebuilds.
+     * @param objectMapper  the mapper used to encode the catalog.
+     * @param ttlSeconds    the maximum age of a snapshot.
+     */
+    public CourseCatalogSnapshot(CourseService courseService, CourseCatalogCache catalogCache,
+            ObjectMapper objectMapper, @Value("${catalog.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.courseService = courseService;
+        this.catalogCache = catalogCache;
+        this.objectMapper = objectMapper;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * Returns the current snapshot, rebuilding it if the catalog has changed.
+     *
+     * @return the encoded catalog.
+     */
+    public Encoded get() {
+        Encoded encoded = current;
+        if (isCurrent(encoded)) {
+            return encoded;
+        }
+        synchronized (this) {
+            encoded = current;
+            if (!isCurrent(encoded)) {
+                encoded = build();
+                current = encoded;
+            }
+            return encoded;
+        }
+    }
+
+    private boolean isCurrent(Encoded encoded) {
+        return encoded != null && encoded.generation == catalogCache.getGeneration()
+                && System.currentTimeMillis() < encoded.expiresAt;
+    }
+
+    private Encoded build() {
+        long generation = catalogCache.getGeneration();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(courseService.getAllCourses());
+            byte[] gzip = gzip(json);
+            String etag = "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json), 0, 16) + "\"";
+            return new Encoded(json, gzip.length < json.length ? gzip : null, etag, generation,
+                    System.currentTimeMillis() + ttlMillis);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * The catalog encoded as JSON, optionally gzip'd, with an ETag for each
+     * encoding. The gzip'd body has its own strong ETag, the JSON one with a
+     * `-gzip` suffix, since the two are different bytes.
+     */
+    public static final class Encoded {
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String etag;
+        private final String gzipEtag;
+        private final long generation;
+        private final long expiresAt;
+
+        Encoded(byte[] json, byte[] gzip, String etag, long generation, long expiresAt) {
+            this.json = json;
+            this.gzip = gzip;
+            this.etag = etag;
+            this.gzipEtag = etag.substring(0, etag.length() - 1) + "-gzip\"";
+            this.generation = generation;
+            this.expiresAt = expiresAt;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        /**
+         * Getter for the gzip'd body.
+         *
+         * @return the gzip'd JSON, or null if compression would not make it smaller.
+         */
+        public byte[] getGzip() {
+            return gzip;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        /**
+         * Getter for the ETag of the gzip'd body.
+         *
+         * @return the JSON body's ETag with a `-gzip` suffix.
+         */
+        public String getGzipEtag() {
+            return gzipEtag;
+        }
+
+        /**
+         * Checks an `If-None-Match` header against this snapshot's ETags. Either
+         * encoding's ETag matches, since both carry the same catalog.
+         *
+         * @param ifNoneMatch the raw header value, may be null.
+         * @return true if the client already holds this snapshot.
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
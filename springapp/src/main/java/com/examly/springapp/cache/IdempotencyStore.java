@@ -0,0 +1,193 @@
+package com.examly.springapp.cache;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.examly.springapp.model.IdempotencyRecord;
+import com.examly.springapp.repository.IdempotencyRecordRepo;
+
+import jakarta.persistence.EntityExistsException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * Stores the responses of requests sent with an `Idempotency-Key` header so a
+ * retried request can be answered without executing it again.
+ *
+ * Recent responses are held in a bounded, time-expiring in-memory map; every
+ * response is also written to the `idempotency_keys` table in the same
+ * transaction as the request it belongs to, so replays still work after an
+ * eviction or a restart. The primary key on that table also rejects a
+ * concurrent request that reuses a key still in flight.
+ *
+ * @author Shantanu
+ */
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyRecordRepo recordRepo;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<String, StoredResponse> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong fallbackHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Constructor to read the store limits from configuration.
+     *
+     * @param recordRepo the repository holding the persistent copy of each response.
+     * @param maxEntries the maximum number of responses kept in memory.
+     * @param ttlHours   how long a key is honoured after its first use.
+     */
+    public IdempotencyStore(IdempotencyRecordRepo recordRepo,
+            @Value("${idempotency.max-entries:10000}") int maxEntries,
+            @Value("${idempotency.ttl-hours:24}") long ttlHours) {
+        this.recordRepo = recordRepo;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlHours * 3600 * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > IdempotencyStore.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Looks up the response stored for a key, in memory first and then in the database.
+     * Must be called in the request's transaction.
+     *
+     * @param key the `Idempotency-Key` sent by the client.
+     * @return the stored response, or null if the key is unused or expired.
+     */
+    public StoredResponse find(String key) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            StoredResponse stored = entries.get(key);
+            if (stored != null && stored.expiresAt > now) {
+                hits.incrementAndGet();
+                return stored;
+            }
+            if (stored != null) {
+                entries.remove(key);
+            }
+        }
+        Optional<IdempotencyRecord> record = recordRepo.findById(key);
+        if (record.isPresent() && record.get().getCreatedAt().getTime() + ttlMillis > now) {
+            fallbackHits.incrementAndGet();
+            StoredResponse stored = toStored(record.get());
+            remember(key, stored);
+            return stored;
+        }
+        if (record.isPresent()) {
+            // expired but not purged yet; free the key before it is reused
+            recordRepo.delete(record.get());
+            entityManager.flush();
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Records the response of a request executed under a key. Must be called in
+     * the request's transaction; the in-memory copy is only published once that
+     * transaction commits.
+     *
+     * @param key          the `Idempotency-Key` sent by the client.
+     * @param requestHash  the hash of the request.
+     * @param responseBody the JSON body of the response.
+     * @throws EntityExistsException if the key was used concurrently.
+     */
+    public void save(String key, String requestHash, String responseBody) {
+        IdempotencyRecord record = new IdempotencyRecord(key, requestHash, responseBody, new Date());
+        try {
+            entityManager.persist(record);
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            throw new EntityExistsException("Idempotency-Key " + key + " Is Already In Use.", e);
+        }
+        StoredResponse stored = toStored(record);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(key, stored);
+                }
+            });
+        } else {
+            remember(key, stored);
+        }
+    }
+
+    /**
+     * Deletes expired keys from the database.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        recordRepo.deleteCreatedBefore(new Date(System.currentTimeMillis() - ttlMillis));
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getFallbackHits() {
+        return fallbackHits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private void remember(String key, StoredResponse stored) {
+        synchronized (entries) {
+            entries.put(key, stored);
+        }
+    }
+
+    private StoredResponse toStored(IdempotencyRecord record) {
+        return new StoredResponse(record.getRequestHash(), record.getResponseBody(),
+                record.getCreatedAt().getTime() + ttlMillis);
+    }
+
+    /**
+     * The request hash and response body stored for a key, valid until `expiresAt`.
+     */
+    public static final class StoredResponse {
+        private final String requestHash;
+        private final String responseBody;
+        private final long expiresAt;
+
+        StoredResponse(String requestHash, String responseBody, long expiresAt) {
+            this.requestHash = requestHash;
+            this.responseBody = responseBody;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getRequestHash() {
+            return requestHash;
+        }
+
+        public String getResponseBody() {
+            return responseBody;
+        }
+
+        public long getExpiresAt() {
+            return expiresAt;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.examly.springapp.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Splits database traffic between the primary and a read replica.
+ *
+ * Only active when `datasource.replica.url` is set; without it the single
+ * `spring.datasource` connection pool is used as before. Read-only transactions,
+ * i.e. service methods annotated `@Transactional(readOnly = true)` and the
+ * inherited Spring Data finders, go to the replica; everything else, including
+ * Flyway migrations, goes to the primary.
+ *
+ * @author Aluri Charan
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "url")
+public class DataSourceRoutingConfig implements WebMvcConfigurer {
+
+    @Value("${datasource.routing.read-your-writes-ms:5000}")
+    private long readYourWritesMillis;
+
+    @Value("${datasource.routing.read-your-writes-max-users:10000}")
+    private int readYourWritesMaxUsers;
+
+    /**
+     * The primary connection pool, configured from `spring.datasource`.
+     *
+     * @param properties the `spring.datasource` properties.
+     * @return the primary data source.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * The replica connection pool, configured from `datasource.replica`.
+     *
+     * @param url      the replica JDBC URL.
+     * @param username the replica user.
+     * @param password the replica password.
+     * @return the replica data source, whose connections are marked read-only.
+     */
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource replica = DataSourceBuilder.create().type(HikariDataSource.class)
+                .url(url).username(username).password(password).build();
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    /**
+     * The routing data source used by JPA, JDBC and Flyway.
+     *
+     * @param primary the primary data source.
+     * @param replica the replica data source.
+     * @return a lazily connecting data source that routes by transaction read-only flag.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica) {
+        return ReadWriteRoutingDataSource.wrap(new ReadWriteRoutingDataSource(primary, replica));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor(readYourWritesMillis, readYourWritesMaxUsers));
+    }
+}
@@ -5,14 +5,18 @@ import java.io.IOException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.examly.springapp.config.JwtPrincipalCache.CachedPrincipal;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,12 +26,21 @@ import jakarta.servlet.http.HttpServletResponse;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
+    private static final String CLAIMS_ONLY_MODE = "claims";
+
     private JwtUtils jwtUtils;
+    private JwtPrincipalCache principalCache;
+    private TokenRevocationList revocationList;
+    private boolean claimsOnly;
     @Autowired
     private UserDetailsService userDetailsService;
 
-    public JwtAuthenticationFilter(JwtUtils jwtUtils) {
+    public JwtAuthenticationFilter(JwtUtils jwtUtils, JwtPrincipalCache principalCache,
+            TokenRevocationList revocationList, @Value("${jwt.auth.mode:database}") String authMode) {
         this.jwtUtils = jwtUtils;
+        this.principalCache = principalCache;
+        this.revocationList = revocationList;
+        this.claimsOnly = CLAIMS_ONLY_MODE.equalsIgnoreCase(authMode);
     }
 
 
@@ -43,12 +56,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             logger.info("CHECKING TOKEN");
             String token = authHeader.substring(7);
             logger.info("TOKEN : {}", token);
-            String username = jwtUtils.extractUsername(token);
-
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserDetails userDetails = claimsOnly ? principalFromClaims(token) : resolvePrincipal(token);
 
-                if (jwtUtils.isTokenValid(token, userDetails)) {
+                if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                             userDetails, null, userDetails.getAuthorities());
                     authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -60,4 +71,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Resolves the principal for a bearer token, serving repeated tokens from the
+     * principal cache and verifying and loading the user only on a miss.
+     *
+     * @param token the raw bearer token.
+     * @return the authenticated principal, or null if the token is not valid.
+     */
+    private UserDetails resolvePrincipal(String token) {
+        CachedPrincipal cached = principalCache.get(token);
+        if (cached != null) {
+            return cached.getUserDetails();
+        }
+        ParsedToken parsedToken = jwtUtils.parse(token);
+        String username = parsedToken.getUsername();
+        if (username == null) {
+            return null;
+        }
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (!parsedToken.isValidFor(userDetails)) {
+            return null;
+        }
+        principalCache.put(token, parsedToken, userDetails);
+        return userDetails;
+    }
+
+    /**
+     * Builds the principal straight from the verified token subject and role
+     * claim, without touching the database. Tokens revoked through the
+     * `TokenRevocationList` are rejected.
+     *
+     * @param token the raw bearer token.
+     * @return the authenticated principal, or null if the token is not valid.
+     */
+    private UserDetails principalFromClaims(String token) {
+        ParsedToken parsedToken = jwtUtils.parse(token);
+        String username = parsedToken.getUsername();
+        if (username == null || parsedToken.isExpired()
+                || revocationList.isRevoked(username, parsedToken.getIssuedAt())) {
+            return null;
+        }
+        return new User(username, "", parsedToken.getAuthorities());
+    }
 }
@@ -0,0 +1,172 @@
+package com.examly.springapp.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, time-expiring cache of verified JWT principals.
+ *
+ * Entries are keyed by the SHA-256 hash of the raw token and hold the parsed
+ * token together with the loaded `UserDetails`, so a repeated token skips both
+ * signature verification and the `users` lookup. An entry lives until the token
+ * expires or the configured TTL elapses, whichever comes first, and is dropped
+ * early when the owning user is invalidated.
+ *
+ * @author Aluri Charan
+ */
+@Component
+public class JwtPrincipalCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<String, CachedPrincipal> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructor to read the cache limits from configuration.
+     *
+     * @param maxEntries the maximum number of cached tokens.
+     * @param ttlSeconds the maximum time an entry is trusted without re-verification.
+     */
+    public JwtPrincipalCache(@Value("${jwt.cache.max-entries:10000}") int maxEntries,
+            @Value("${jwt.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+                return size() > JwtPrincipalCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Looks up a previously verified token.
+     *
+     * @param token the raw bearer token.
+     * @return the cached principal, or null if absent or expired.
+     */
+    public CachedPrincipal get(String token) {
+        String key = hash(token);
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CachedPrincipal cached = entries.get(key);
+            if (cached != null && cached.expiresAt > now) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            if (cached != null) {
+                entries.remove(key);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Stores a verified token and its principal.
+     *
+     * @param token       the raw bearer token.
+     * @param parsedToken the verified token.
+     * @param userDetails the principal loaded for the token subject.
+     * @return the cached entry.
+     */
+    public CachedPrincipal put(String token, ParsedToken parsedToken, UserDetails userDetails) {
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        if (parsedToken.getExpiration() != null) {
+            expiresAt = Math.min(expiresAt, parsedToken.getExpiration().getTime());
+        }
+        CachedPrincipal cached = new CachedPrincipal(parsedToken, userDetails, expiresAt);
+        synchronized (entries) {
+            entries.put(hash(token), cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Drops every cached token belonging to the given user, e.g. after a role or
+     * password change.
+     *
+     * @param username the username (email) of the user.
+     */
+    public void invalidate(String username) {
+        synchronized (entries) {
+            Iterator<CachedPrincipal> it = entries.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().userDetails.getUsername().equals(username)) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops every cached token.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * A verified token and its principal, valid until `expiresAt`.
+     */
+    public static final class CachedPrincipal {
+        private final ParsedToken parsedToken;
+        private final UserDetails userDetails;
+        private final long expiresAt;
+
+        CachedPrincipal(ParsedToken parsedToken, UserDetails userDetails, long expiresAt) {
+            this.parsedToken = parsedToken;
+            this.userDetails = userDetails;
+            this.expiresAt = expiresAt;
+        }
+
+        public ParsedToken getParsedToken() {
+            return parsedToken;
+        }
+
+        public UserDetails getUserDetails() {
+            return userDetails;
+        }
+
+        public long getExpiresAt() {
+            return expiresAt;
+        }
+    }
+}
@@ -1,16 +1,34 @@
 package com.examly.springapp.config;
 
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.impl.TextCodec;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import java.security.Key;
 import java.util.Date;
 import java.util.function.Function;
 import java.util.List;
+import javax.crypto.spec.SecretKeySpec;
 
 @Component
 public class JwtUtils {
     private static final String SECRET_KEY = "mySecretKey";
-    private static final long JWT_EXPIRATION = (long) 1000 * 60 * 60 * 10; // 10 hours
+    private static final SignatureAlgorithm ALGORITHM = SignatureAlgorithm.HS256;
+    private final long jwtExpiration;
+    // Decoded once; the String overloads of signWith/setSigningKey would base64-decode the key on every call.
+    private final Key signingKey;
+    private final JwtParser parser;
+
+    public JwtUtils(@Value("${jwt.expiration-ms:36000000}") long jwtExpiration) {
+        this.jwtExpiration = jwtExpiration;
+        this.signingKey = new SecretKeySpec(TextCodec.BASE64.decode(SECRET_KEY), ALGORITHM.getJcaName());
+        this.parser = Jwts.parser().setSigningKey(signingKey);
+    }
+
+    public long getExpirationMillis() {
+        return jwtExpiration;
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -22,16 +40,21 @@ public class JwtUtils {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    /**
+     * Verifies and decodes a token once, for reuse across every check on the request.
+     *
+     * @param token the raw bearer token.
+     * @return the parsed token.
+     */
+    public ParsedToken parse(String token) {
+        return new ParsedToken(extractAllClaims(token));
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractClaim(token, Claims::getExpiration).before(new Date());
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return parse(token).isValidFor(userDetails);
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -39,8 +62,8 @@ public class JwtUtils {
                 .setSubject(userDetails.getUsername())
                 .claim("role", userDetails.getAuthorities().stream().map(grantedAuthority->grantedAuthority.getAuthority()).toList())
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRATION))
-                .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+                .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
+                .signWith(ALGORITHM, signingKey)
                 .compact();
     }
 
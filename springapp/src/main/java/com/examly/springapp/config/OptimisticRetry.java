@@ -0,0 +1,83 @@
+package com.examly.springapp.config;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs a read-modify-write operation in its own transaction and retries it when
+ * a concurrent writer changed the same `@Version`ed row first.
+ *
+ * Each attempt re-reads fresh state, so the losing writer re-applies its change
+ * on top of the winner's instead of overwriting it. Attempts are bounded and
+ * separated by an exponential backoff with jitter; once they are exhausted the
+ * `OptimisticLockingFailureException` is rethrown and reported as 409.
+ *
+ * @author Aluri Charan
+ */
+@Component
+public class OptimisticRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final AtomicLong retries = new AtomicLong();
+
+    /**
+     * Constructor to read the retry policy from configuration.
+     *
+     * @param transactionManager the transaction manager each attempt runs under.
+     * @param maxAttempts        the maximum number of attempts, including the first.
+     * @param backoffMillis      the delay before the first retry, doubled on each further retry.
+     */
+    public OptimisticRetry(PlatformTransactionManager transactionManager,
+            @Value("${optimistic.retry.max-attempts:3}") int maxAttempts,
+            @Value("${optimistic.retry.backoff-ms:20}") long backoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    /**
+     * Runs the action in a transaction, retrying on optimistic lock failures.
+     *
+     * @param action the read-modify-write operation.
+     * @param <T>    the result type.
+     * @return the result of the first attempt that commits.
+     * @throws OptimisticLockingFailureException if every attempt conflicted.
+     */
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                retries.incrementAndGet();
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    public long getRetries() {
+        return retries.get();
+    }
+
+    private void backoff(int attempt, OptimisticLockingFailureException cause) {
+        long delay = backoffMillis << (attempt - 1);
+        delay += ThreadLocalRandom.current().nextLong(delay + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.examly.springapp.config;
+
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * A JWT that has been signature-verified and decoded exactly once.
+ *
+ * Produced by `JwtUtils.parse` and passed along the authentication path so
+ * that the subject, expiry and roles are read from the same decoded claims
+ * instead of re-parsing the raw token for every check.
+ *
+ * @author Aluri Charan
+ */
+public final class ParsedToken {
+
+    private final Claims claims;
+    private final List<GrantedAuthority> authorities;
+
+    /**
+     * Constructor for wrapping verified claims.
+     *
+     * @param claims the verified claims of the token.
+     */
+    ParsedToken(Claims claims) {
+        this.claims = claims;
+        List<?> roles = claims.get("role", List.class);
+        this.authorities = roles == null ? List.of()
+                : roles.stream().<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.toString())).toList();
+    }
+
+    public Claims getClaims() {
+        return claims;
+    }
+
+    public String getUsername() {
+        return claims.getSubject();
+    }
+
+    public Date getIssuedAt() {
+        return claims.getIssuedAt();
+    }
+
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+
+    /**
+     * Getter for the authorities carried in the `role` claim.
+     *
+     * @return the granted authorities of the token subject.
+     */
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    public boolean isExpired() {
+        return claims.getExpiration().before(new Date());
+    }
+
+    /**
+     * Checks that the token belongs to the given user and has not expired.
+     *
+     * @param userDetails the principal loaded for the token subject.
+     * @return true if the token is valid for the user.
+     */
+    public boolean isValidFor(UserDetails userDetails) {
+        return getUsername().equals(userDetails.getUsername()) && !isExpired();
+    }
+}
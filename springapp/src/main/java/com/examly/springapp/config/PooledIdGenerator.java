@@ -0,0 +1,45 @@
+package com.examly.springapp.config;
+
+import java.util.Properties;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * Per-entity ID generator that hands out blocks of IDs from memory.
+ *
+ * Each entity keeps its own `<table>_seq` sequence (a one-row table on MySQL),
+ * which is advanced by the allocation size in one round trip; the `pooled-lo`
+ * optimizer then assigns the IDs of that block without touching the database,
+ * so inserts neither serialize on a shared row nor break JDBC batching. The
+ * block size is read from the `app.id.allocation-size` Hibernate setting.
+ *
+ * @author Aluri Charan
+ */
+public class PooledIdGenerator extends SequenceStyleGenerator {
+
+    /**
+     * Fully qualified name, for use as the `@GenericGenerator` strategy.
+     */
+    public static final String STRATEGY = "com.examly.springapp.config.PooledIdGenerator";
+
+    /**
+     * Hibernate setting holding the number of IDs reserved per round trip.
+     */
+    public static final String ALLOCATION_SIZE = "app.id.allocation-size";
+
+    private static final String DEFAULT_ALLOCATION_SIZE = "50";
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        Object allocationSize = serviceRegistry.getService(ConfigurationService.class)
+                .getSettings().get(ALLOCATION_SIZE);
+        parameters.setProperty(INCREMENT_PARAM,
+                allocationSize != null ? allocationSize.toString() : DEFAULT_ALLOCATION_SIZE);
+        parameters.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
@@ -0,0 +1,98 @@
+package com.examly.springapp.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Data source that sends read-only transactions to a replica and everything
+ * else to the primary.
+ *
+ * The route is picked when a connection is first used, from the read-only flag
+ * of the current Spring transaction, so it must sit behind a
+ * `LazyConnectionDataSourceProxy` (see `wrap`); otherwise the connection would be
+ * taken before the transaction is marked read-only. A thread can be pinned to
+ * the primary, e.g. to let a user read their own recent writes despite
+ * replication lag.
+ *
+ * @author Aluri Charan
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * The two targets a connection can be routed to.
+     */
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private final AtomicLong primaryRoutes = new AtomicLong();
+    private final AtomicLong replicaRoutes = new AtomicLong();
+
+    /**
+     * Constructor to register the primary and replica targets.
+     *
+     * @param primary the data source used for writes and read-write transactions.
+     * @param replica the data source used for read-only transactions.
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Route.PRIMARY, primary);
+        targets.put(Route.REPLICA, replica);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Wraps the routing data source so connections are only taken on first use.
+     *
+     * @param routing the routing data source.
+     * @return a lazy proxy to hand to JPA and JDBC.
+     */
+    public static DataSource wrap(ReadWriteRoutingDataSource routing) {
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Routes every connection taken by the current thread to the primary until
+     * `unpin` is called.
+     */
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    /**
+     * Clears the primary pin of the current thread.
+     */
+    public static void unpin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && PINNED_TO_PRIMARY.get() == null) {
+            replicaRoutes.incrementAndGet();
+            return Route.REPLICA;
+        }
+        primaryRoutes.incrementAndGet();
+        return Route.PRIMARY;
+    }
+
+    public long getPrimaryRoutes() {
+        return primaryRoutes.get();
+    }
+
+    public long getReplicaRoutes() {
+        return replicaRoutes.get();
+    }
+}
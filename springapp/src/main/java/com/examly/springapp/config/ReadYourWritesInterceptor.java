@@ -0,0 +1,99 @@
+package com.examly.springapp.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Pins a user's requests to the primary database for a short window after that
+ * user's own successful write, so they never read a replica that has not caught
+ * up with it yet.
+ *
+ * Any request other than GET, HEAD or OPTIONS that completes with a status below
+ * 400 counts as a write. The map of recent writers is bounded; the least recently
+ * written users are forgotten first.
+ *
+ * The pin is a thread-local, so it is dropped when the request thread is released:
+ * on completion, and when a handler such as a `StreamingResponseBody` continues
+ * asynchronously. A pin left behind on a pooled thread is cleared before the next
+ * request on that thread is routed.
+ *
+ * @author Aluri Charan
+ */
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private final long windowMillis;
+    private final int maxUsers;
+    private final Map<String, Long> lastWrites;
+
+    /**
+     * Constructor to set the read-your-writes window.
+     *
+     * @param windowMillis how long after a write the user's reads stay on the primary; 0 disables it.
+     * @param maxUsers     the maximum number of recent writers remembered.
+     */
+    public ReadYourWritesInterceptor(long windowMillis, int maxUsers) {
+        this.windowMillis = windowMillis;
+        this.maxUsers = maxUsers;
+        this.lastWrites = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > ReadYourWritesInterceptor.this.maxUsers;
+            }
+        };
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReadWriteRoutingDataSource.unpin();
+        String user = currentUser();
+        if (user != null && windowMillis > 0) {
+            Long lastWrite;
+            synchronized (lastWrites) {
+                lastWrite = lastWrites.get(user);
+            }
+            if (lastWrite != null && System.currentTimeMillis() - lastWrite < windowMillis) {
+                ReadWriteRoutingDataSource.pinToPrimary();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        ReadWriteRoutingDataSource.unpin();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        ReadWriteRoutingDataSource.unpin();
+        String user = currentUser();
+        if (user != null && windowMillis > 0 && isWrite(request.getMethod()) && ex == null
+                && response.getStatus() < 400) {
+            synchronized (lastWrites) {
+                lastWrites.put(user, System.currentTimeMillis());
+            }
+        }
+    }
+
+    private static boolean isWrite(String method) {
+        return !"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method);
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || "anonymousUser".equals(authentication.getName())) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
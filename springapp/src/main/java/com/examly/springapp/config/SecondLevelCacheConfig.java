@@ -0,0 +1,153 @@
+package com.examly.springapp.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate second-level cache backed by Ehcache through JCache.
+ *
+ * Every region is created up front with its own heap size and time-to-live, read
+ * from `cache.region.<name>.max-entries` and `cache.region.<name>.ttl-seconds`.
+ * Entity regions hold `Course`, `Customer` and `User`; the `cart-courses` region
+ * holds cart contents; the query regions hold the customer and cart lookups by
+ * user ID. Per-region hits, misses and hit ratio are published as Micrometer
+ * metrics.
+ *
+ * @author Aluri Charan
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String COURSES = "courses";
+    public static final String CUSTOMERS = "customers";
+    public static final String USERS = "users";
+    public static final String CART_COURSES = "cart-courses";
+    public static final String CUSTOMER_BY_USER = "customer-by-user";
+    public static final String CART_BY_USER = "cart-by-user";
+
+    /**
+     * Default size and time-to-live of each region. The update timestamps region
+     * never expires, so cached query results are never trusted past a table change.
+     */
+    private static final Map<String, long[]> REGIONS = new LinkedHashMap<>();
+
+    static {
+        REGIONS.put(COURSES, new long[] { 5000, 3600 });
+        REGIONS.put(CUSTOMERS, new long[] { 10000, 600 });
+        REGIONS.put(USERS, new long[] { 10000, 600 });
+        REGIONS.put(CART_COURSES, new long[] { 10000, 300 });
+        REGIONS.put(CUSTOMER_BY_USER, new long[] { 10000, 600 });
+        REGIONS.put(CART_BY_USER, new long[] { 10000, 60 });
+        REGIONS.put(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, new long[] { 1000, 60 });
+        REGIONS.put(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new long[] { 10000, 0 });
+    }
+
+    /**
+     * The JCache manager holding one Ehcache cache per region.
+     *
+     * @param environment the environment to read region settings from.
+     * @return the cache manager handed to Hibernate.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(Environment environment) {
+        ConfigurationBuilder configuration = ConfigurationBuilder.newConfigurationBuilder();
+        for (Map.Entry<String, long[]> region : REGIONS.entrySet()) {
+            String prefix = "cache.region." + region.getKey();
+            long maxEntries = environment.getProperty(prefix + ".max-entries", Long.class, region.getValue()[0]);
+            long ttlSeconds = environment.getProperty(prefix + ".ttl-seconds", Long.class, region.getValue()[1]);
+            configuration = configuration.withCache(region.getKey(), CacheConfigurationBuilder
+                    .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                    .withExpiry(ttlSeconds > 0
+                            ? ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ttlSeconds))
+                            : ExpiryPolicyBuilder.noExpiration()));
+        }
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching
+                .getCachingProvider(EhcacheCachingProvider.class.getName());
+        return provider.getCacheManager(URI.create("urn:hibernate-cache:" + UUID.randomUUID()),
+                configuration.build());
+    }
+
+    /**
+     * Switches on the second-level and query caches over `hibernateCacheManager`.
+     *
+     * @param hibernateCacheManager the cache manager holding every region.
+     * @return the customizer applied to the Hibernate properties.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, "ENABLE_SELECTIVE");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    /**
+     * Publishes `hibernate.cache.region.hits`, `hibernate.cache.region.misses` and
+     * `hibernate.cache.region.hit.ratio`, tagged by region.
+     *
+     * @param entityManagerFactory the entity manager factory whose statistics are read.
+     * @return the binder registering the region meters.
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            for (String region : REGIONS.keySet()) {
+                if (region.equals(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME)) {
+                    continue;
+                }
+                FunctionCounter.builder("hibernate.cache.region.hits", statistics,
+                        s -> hits(s, region)).tag("region", region).register(registry);
+                FunctionCounter.builder("hibernate.cache.region.misses", statistics,
+                        s -> misses(s, region)).tag("region", region).register(registry);
+                Gauge.builder("hibernate.cache.region.hit.ratio", statistics, s -> {
+                    double hits = hits(s, region);
+                    double total = hits + misses(s, region);
+                    return total == 0 ? 0 : hits / total;
+                }).tag("region", region).register(registry);
+            }
+        };
+    }
+
+    private static double hits(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics == null ? 0 : regionStatistics.getHitCount();
+    }
+
+    private static double misses(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics == null ? 0 : regionStatistics.getMissCount();
+    }
+}
@@ -42,7 +42,9 @@ public class SecurityConfig {
  
     protected static final  String[] whiteListUrlStrings = {"/v3/api-docs/**", "/swagger-ui/**",
             "/swagger-ui.html", "/api/user/login",
-            "/api/user/register", "/api/course"};
+            "/api/user/register", "/api/course", "/api/course/page", "/api/course/seek",
+            "/api/course/search", "/api/course/suggest",
+            "/api/leaderboard/bestsellers", "/api/leaderboard/top-rated", "/api/recommendation/course/*"};
  
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration)
@@ -81,6 +83,7 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(whiteListUrlStrings).permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/api/**").authenticated()
                         .anyRequest().authenticated())
                 .exceptionHandling(ex -> ex.authenticationEntryPoint(jwtAuthenticationEntryPoint))
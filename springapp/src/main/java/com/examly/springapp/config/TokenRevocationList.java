@@ -0,0 +1,60 @@
+package com.examly.springapp.config;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory revocation list used by the claims-only authentication mode.
+ *
+ * Rather than tracking individual tokens, it remembers for each user the moment
+ * their tokens were revoked; any token issued at or before that moment is rejected.
+ * Entries are discarded once every token they could affect has expired.
+ *
+ * The `iat` claim only has whole-second precision, so the moment is stored
+ * truncated to its second as well. A token issued later in the same second as
+ * the revocation is therefore rejected too; that one-second window errs towards
+ * rejecting, never towards accepting a token issued before the revocation.
+ *
+ * @author Aluri Charan
+ */
+@Component
+public class TokenRevocationList {
+
+    private final JwtUtils jwtUtils;
+    private final Map<String, Long> revokedAt = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor to inject the `JwtUtils` bean.
+     *
+     * @param jwtUtils the utility for handling JSON Web Tokens.
+     */
+    public TokenRevocationList(JwtUtils jwtUtils) {
+        this.jwtUtils = jwtUtils;
+    }
+
+    /**
+     * Revokes every token issued to the user up to now.
+     *
+     * @param username the username (email) of the user.
+     */
+    public void revokeAll(String username) {
+        long now = System.currentTimeMillis();
+        revokedAt.put(username, now - now % 1000);
+        revokedAt.values().removeIf(at -> at + jwtUtils.getExpirationMillis() < now);
+    }
+
+    /**
+     * Checks whether a token issued to the user at the given time has been revoked.
+     *
+     * @param username the token subject.
+     * @param issuedAt the token `iat` claim, in whole seconds.
+     * @return true if the token must be rejected.
+     */
+    public boolean isRevoked(String username, Date issuedAt) {
+        Long at = revokedAt.get(username);
+        return at != null && (issuedAt == null || issuedAt.getTime() <= at);
+    }
+}
@@ -0,0 +1,81 @@
+package com.examly.springapp.config;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.examly.springapp.model.User;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener that evicts cached JWT principals and revokes outstanding
+ * tokens whenever a `User` row is updated or removed, so a role or password change
+ * takes effect on the next request.
+ *
+ * The eviction runs once the transaction commits, so a request reloading the
+ * user at the same moment cannot put the old row back in the cache. It covers
+ * the email the user was loaded with as well as the current one, so an email
+ * change leaves nothing behind under the old address.
+ *
+ * @author Aluri Charan
+ */
+@Component
+public class UserChangeListener {
+
+    private final JwtPrincipalCache principalCache;
+    private final TokenRevocationList revocationList;
+
+    /**
+     * Constructor to inject the necessary beans.
+     *
+     * @param principalCache the cache of verified JWT principals.
+     * @param revocationList the revocation list consulted in claims-only mode.
+     */
+    public UserChangeListener(JwtPrincipalCache principalCache, TokenRevocationList revocationList) {
+        this.principalCache = principalCache;
+        this.revocationList = revocationList;
+    }
+
+    @PostLoad
+    @PostPersist
+    public void onUserLoaded(User user) {
+        user.setLoadedEmail(user.getEmail());
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        Set<String> emails = new LinkedHashSet<>();
+        if (user.getLoadedEmail() != null) {
+            emails.add(user.getLoadedEmail());
+        }
+        if (user.getEmail() != null) {
+            emails.add(user.getEmail());
+        }
+        user.setLoadedEmail(user.getEmail());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(emails);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(emails);
+            }
+        });
+    }
+
+    private void evict(Set<String> emails) {
+        for (String email : emails) {
+            principalCache.invalidate(email);
+            revocationList.revokeAll(email);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.examly.springapp.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.examly.springapp.model.AdminSummaryDTO;
+import com.examly.springapp.model.SalesReportDTO;
+import com.examly.springapp.service.AdminSummaryService;
+import com.examly.springapp.service.SalesAnalyticsService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+/**
+ * AnalyticsController class to handle admin reporting endpoints.
+ * Annotated with `@RestController` to indicate a RESTful controller.
+ * Mapped to the `/api/analytics` base path using `@RequestMapping`.
+ * 
+ * @author Shantanu
+ */
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final SalesAnalyticsService salesAnalyticsService;
+    private final AdminSummaryService adminSummaryService;
+
+    public AnalyticsController(SalesAnalyticsService salesAnalyticsService, AdminSummaryService adminSummaryService) {
+        this.salesAnalyticsService = salesAnalyticsService;
+        this.adminSummaryService = adminSummaryService;
+    }
+
+    /**
+     * Retrieves the totals for the admin dashboard tiles: users, customers,
+     * courses, reviews, orders per status and revenue.
+     *
+     * @return a `ResponseEntity` containing the summary, at most a few seconds old.
+     */
+    @Operation(description="Retrieving the admin summary")
+    @ApiResponse(responseCode="200",description="Status code after retrieving the admin summary")
+    @GetMapping("/summary")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AdminSummaryDTO> getSummary() {
+        AdminSummaryDTO summary = adminSummaryService.getSummary();
+        return ResponseEntity.status(200).body(summary);
+    }
+
+    /**
+     * Retrieves revenue and order count per day, week or month, and course sales
+     * per course type.
+     *
+     * @param granularity the length of each period: `day`, `week` or `month`.
+     * @param from        the first day, ISO formatted; defaults to 30 days, 12 weeks or 12 months back.
+     * @param to          the last day, ISO formatted; defaults to today.
+     * @param status      the order status to report on; defaults to every status.
+     * @return a `ResponseEntity` containing the sales report.
+     */
+    @Operation(description="Retrieving the sales report")
+    @ApiResponse(responseCode="200",description="Status code after retrieving the sales report")
+    @GetMapping("/sales")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SalesReportDTO> getSalesReport(@RequestParam(defaultValue = "day") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String status) {
+        SalesReportDTO report = salesAnalyticsService.getSalesReport(granularity, from, to, status);
+        return ResponseEntity.status(200).body(report);
+    }
+}
@@ -18,6 +18,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.examly.springapp.model.Cart;
+import com.examly.springapp.model.CartDeltaDTO;
+import com.examly.springapp.model.CartSummaryDTO;
 import com.examly.springapp.service.CartService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -88,6 +90,38 @@ public class CartController {
         return ResponseEntity.status(200).body(cart);
     }
 
+    /**
+     * Adds a single course to a customer's cart, creating the cart on first use.
+     *
+     * @param customerId the ID of the customer who owns the cart.
+     * @param courseId the ID of the course to add.
+     * @return a `ResponseEntity` containing the cart delta or an error status.
+     */
+    @Operation(description="Adding a Course to the Cart by CustomerId")
+    @ApiResponse(responseCode="200",description="Status code after Successful addition of the Course to the Cart")
+    @PostMapping("/customer/{customerId}/course/{courseId}")
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    public ResponseEntity<CartDeltaDTO> addCourseToCart(@PathVariable long customerId, @PathVariable long courseId) {
+        CartDeltaDTO delta = cartService.addCourseToCustomerCart(customerId, courseId);
+        return ResponseEntity.status(200).body(delta);
+    }
+
+    /**
+     * Removes a single course from a customer's cart.
+     *
+     * @param customerId the ID of the customer who owns the cart.
+     * @param courseId the ID of the course to remove.
+     * @return a `ResponseEntity` containing the cart delta or an error status.
+     */
+    @Operation(description="Removing a Course from the Cart by CustomerId")
+    @ApiResponse(responseCode="200",description="Status code after Successful removal of the Course from the Cart")
+    @DeleteMapping("/customer/{customerId}/course/{courseId}")
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    public ResponseEntity<CartDeltaDTO> removeCourseFromCustomerCart(@PathVariable long customerId, @PathVariable long courseId) {
+        CartDeltaDTO delta = cartService.removeCourseFromCustomerCart(customerId, courseId);
+        return ResponseEntity.status(200).body(delta);
+    }
+
     /**
      * Retrieves a cart by user ID.
      *
@@ -131,6 +165,20 @@ public class CartController {
         return new ResponseEntity<>(carts, HttpStatus.OK);
     }
 
+    /**
+     * Retrieves the admin listing of all carts with only the displayed columns.
+     *
+     * @return a `ResponseEntity` containing a list of cart summaries or an error status.
+     */
+    @Operation(description="Retrieving List of Cart summaries")
+    @ApiResponse(responseCode="200",description="Status code after Successful retrieving the List of Cart summaries")
+    @GetMapping("/summary")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<CartSummaryDTO>> getCartSummaries() {
+        List<CartSummaryDTO> carts = cartService.getCartSummaries();
+        return new ResponseEntity<>(carts, HttpStatus.OK);
+    }
+
     @DeleteMapping("/clear/{userId}")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Void> clearCart(@PathVariable long userId) {
@@ -5,6 +5,9 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,10 +16,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.examly.springapp.cache.CourseCatalogSnapshot;
 import com.examly.springapp.model.Course;
+import com.examly.springapp.model.CoursePageDTO;
 import com.examly.springapp.service.CourseService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,6 +44,8 @@ public class CourseController {
     Logger logger = LoggerFactory.getLogger(CourseController.class);
     @Autowired
     private CourseService courseService;
+    @Autowired
+    private CourseCatalogSnapshot catalogSnapshot;
 
     /**
      * Adds a new course.
@@ -56,18 +65,130 @@ public class CourseController {
     }
 
     /**
-     * Retrieves all courses.
+     * Retrieves all courses from the pre-encoded catalog snapshot.
+     * Returns 304 when `If-None-Match` carries the current ETag, and the gzip'd
+     * body, under its own ETag, when the client accepts it.
      *
-     * @return a `ResponseEntity` containing a list of all `Course` entities or an
-     *         error status.
+     * @param ifNoneMatch    the ETag(s) held by the client, if any.
+     * @param acceptEncoding the encodings accepted by the client, if any.
+     * @return a `ResponseEntity` containing the JSON list of all `Course` entities,
+     *         or an empty 304 response.
      */
     @Operation(description="Retrieving List of  courses")
     @ApiResponse(responseCode="200",description="Status code after retrieving the List of Courses")
+    @ApiResponse(responseCode="304",description="Status code when the client's copy of the List of Courses is current")
     @GetMapping()
     @PreAuthorize("permitAll()")
-    public ResponseEntity<List<Course>> getAllCourses() {
-        List<Course> course = courseService.getAllCourses();
-        return ResponseEntity.status(200).body(course);
+    public ResponseEntity<byte[]> getAllCourses(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CourseCatalogSnapshot.Encoded snapshot = catalogSnapshot.get();
+        boolean gzip = snapshot.getGzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+        String etag = gzip ? snapshot.getGzipEtag() : snapshot.getEtag();
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(304).eTag(etag).cacheControl(CacheControl.noCache())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING).build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(200)
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzip());
+        }
+        return response.body(snapshot.getJson());
+    }
+
+    /**
+     * Retrieves one page of courses, optionally filtered and sorted.
+     *
+     * @param page       the zero-based page number.
+     * @param size       the page size, at most 100.
+     * @param sort       the sort key: "price", "type" or "id".
+     * @param direction  "asc" or "desc".
+     * @param courseType the course type to match, if any.
+     * @param minPrice   the lowest price to include, if any.
+     * @param maxPrice   the highest price to include, if any.
+     * @return a `ResponseEntity` containing the requested page.
+     */
+    @Operation(description="Retrieving a page of courses")
+    @ApiResponse(responseCode="200",description="Status code after retrieving a page of Courses")
+    @GetMapping("/page")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<CoursePageDTO> getCoursePage(@RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) String courseType,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice) {
+        CoursePageDTO coursePage = courseService.getCoursePage(page, size, sort, "desc".equalsIgnoreCase(direction),
+                courseType, minPrice, maxPrice);
+        return ResponseEntity.status(200).body(coursePage);
+    }
+
+    /**
+     * Retrieves the page of courses following a keyset cursor, in ascending order.
+     * Pass the `nextAfterValue` and `nextAfterId` of the previous page to continue.
+     *
+     * @param size       the page size, at most 100.
+     * @param sort       the sort key: "price", "type" or "id".
+     * @param afterValue the sort key value of the last course already returned.
+     * @param afterId    the ID of the last course already returned.
+     * @param courseType the course type to match, if any.
+     * @param minPrice   the lowest price to include, if any.
+     * @param maxPrice   the highest price to include, if any.
+     * @return a `ResponseEntity` containing the requested page.
+     */
+    @Operation(description="Retrieving the next page of courses by cursor")
+    @ApiResponse(responseCode="200",description="Status code after retrieving the next page of Courses")
+    @GetMapping("/seek")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<CoursePageDTO> getCoursesAfter(@RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String afterValue,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) String courseType,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice) {
+        CoursePageDTO coursePage = courseService.getCoursesAfter(size, sort, afterValue, afterId,
+                courseType, minPrice, maxPrice);
+        return ResponseEntity.status(200).body(coursePage);
+    }
+
+    /**
+     * Searches courses by type and details.
+     *
+     * @param q     the search text; every word must match, as a whole word or a prefix.
+     * @param limit the maximum number of results, at most 100.
+     * @return a `ResponseEntity` containing the matching courses, best first.
+     */
+    @Operation(description="Searching courses by type and details")
+    @ApiResponse(responseCode="200",description="Status code after searching the Courses")
+    @GetMapping("/search")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<List<Course>> searchCourses(@RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<Course> courses = courseService.searchCourses(q, limit);
+        return ResponseEntity.status(200).body(courses);
+    }
+
+    /**
+     * Suggests courses for the text typed so far in the search box.
+     *
+     * @param prefix the text typed so far.
+     * @param limit  the maximum number of suggestions.
+     * @return a `ResponseEntity` containing the suggested courses, best first.
+     */
+    @Operation(description="Suggesting courses for a typed prefix")
+    @ApiResponse(responseCode="200",description="Status code after retrieving Course suggestions")
+    @GetMapping("/suggest")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<List<Course>> suggestCourses(@RequestParam String prefix,
+            @RequestParam(defaultValue = "8") int limit) {
+        List<Course> courses = courseService.suggestCourses(prefix, limit);
+        return ResponseEntity.status(200).body(courses);
     }
 
     /**
@@ -0,0 +1,63 @@
+package com.examly.springapp.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.examly.springapp.model.CourseRankDTO;
+import com.examly.springapp.service.LeaderboardService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+/**
+ * LeaderboardController class to handle course leaderboard endpoints.
+ * Annotated with `@RestController` to indicate a RESTful controller.
+ * Mapped to the `/api/leaderboard` base path using `@RequestMapping`.
+ * 
+ * @author Shantanu
+ */
+@RestController
+@RequestMapping("/api/leaderboard")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    /**
+     * Retrieves the best-selling courses of the last day, week or month.
+     *
+     * @param window the window to rank sales in: `day`, `week` or `month`.
+     * @param limit  the maximum number of courses to return.
+     * @return a `ResponseEntity` containing the ranked courses, best first.
+     */
+    @Operation(description="Retrieving best-selling courses")
+    @ApiResponse(responseCode="200",description="Status code after retrieving best-selling courses")
+    @GetMapping("/bestsellers")
+    public ResponseEntity<List<CourseRankDTO>> getBestsellers(@RequestParam(defaultValue = "week") String window,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<CourseRankDTO> courses = leaderboardService.getBestsellers(window, limit);
+        return ResponseEntity.status(200).body(courses);
+    }
+
+    /**
+     * Retrieves the highest-rated courses.
+     *
+     * @param limit the maximum number of courses to return.
+     * @return a `ResponseEntity` containing the ranked courses, best first.
+     */
+    @Operation(description="Retrieving top-rated courses")
+    @ApiResponse(responseCode="200",description="Status code after retrieving top-rated courses")
+    @GetMapping("/top-rated")
+    public ResponseEntity<List<CourseRankDTO>> getTopRated(@RequestParam(defaultValue = "10") int limit) {
+        List<CourseRankDTO> courses = leaderboardService.getTopRated(limit);
+        return ResponseEntity.status(200).body(courses);
+    }
+}
@@ -1,16 +1,25 @@
 package com.examly.springapp.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import com.examly.springapp.exception.InvalidRequestException;
+import com.examly.springapp.model.OrderSummaryDTO;
 import com.examly.springapp.model.Orders;
 import com.examly.springapp.service.OrderService;
 
@@ -31,21 +40,49 @@ public class OrderController {
 
     @Autowired
     private OrderService service; 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
 
     /**
      * Adds a new order.
      *
+     * A request repeated with the same `Idempotency-Key` header returns the order
+     * created by the first one instead of creating another.
+     *
      * @param order the `Orders` entity provided in the request body.
+     * @param idempotencyKey the optional `Idempotency-Key` header.
      * @return a `ResponseEntity` containing the saved `Orders` entity or an error status.
      */
     @Operation(description="Posting newOrders")
     @ApiResponse(responseCode="201",description="Status code after posting new Order.")
     @PostMapping()
-    public ResponseEntity<Orders> addOrder(@RequestBody Orders order){
-        Orders newOrder = service.addOrder(order);
+    public ResponseEntity<Orders> addOrder(@RequestBody Orders order,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey){
+        Orders newOrder = service.addOrder(order, idempotencyKey);
         return ResponseEntity.status(201).body(newOrder);           
     }
 
+    /**
+     * Places an order for every course in the user's cart and empties the cart
+     * in a single transaction.
+     *
+     * A request repeated with the same `Idempotency-Key` header returns the order
+     * created by the first one instead of checking out again.
+     *
+     * @param userId the ID of the user checking out.
+     * @param idempotencyKey the optional `Idempotency-Key` header.
+     * @return a `ResponseEntity` containing the created order summary or an error status.
+     */
+    @Operation(description="Checking out the Cart of a user")
+    @ApiResponse(responseCode="201",description="Status code after placing the order for the Cart")
+    @PostMapping("/checkout/{userId}")
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    public ResponseEntity<OrderSummaryDTO> checkout(@PathVariable long userId,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey){
+        OrderSummaryDTO order = service.checkout(userId, idempotencyKey);
+        return ResponseEntity.status(201).body(order);
+    }
+
     /**
      * Retrieves all orders.
      *
@@ -59,6 +96,64 @@ public class OrderController {
         return ResponseEntity.status(200).body(newOrder);    
     }
 
+    /**
+     * Retrieves the admin listing of all orders with only the displayed columns.
+     *
+     * @return a `ResponseEntity` containing a list of order summaries or an error status.
+     */
+    @Operation(description="Retrieving List of Order summaries")
+    @ApiResponse(responseCode="200",description="Status code after retrieving all order summaries")
+    @GetMapping("/summary")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<OrderSummaryDTO>> getOrderSummaries(){
+        List<OrderSummaryDTO> summaries = service.getOrderSummaries();
+        return ResponseEntity.status(200).body(summaries);
+    }
+
+    /**
+     * Streams all orders as newline-delimited JSON, one order per line, without
+     * loading the whole listing into memory first.
+     *
+     * @return a `ResponseEntity` whose body writes the orders as they are read.
+     */
+    @Operation(description="Streaming List of Orders")
+    @ApiResponse(responseCode="200",description="Status code after streaming all orders")
+    @GetMapping("/stream")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamOrders(){
+        StreamingResponseBody body = service::streamOrdersAsJson;
+        return ResponseEntity.status(200).contentType(NDJSON).body(body);
+    }
+
+    /**
+     * Exports all orders as a CSV or NDJSON file download.
+     *
+     * @param format `csv` or `ndjson`.
+     * @return a `ResponseEntity` whose body writes the orders as they are read.
+     * @throws InvalidRequestException if the format is not supported.
+     */
+    @Operation(description="Exporting List of Orders as csv or ndjson")
+    @ApiResponse(responseCode="200",description="Status code after exporting all orders")
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestParam(defaultValue = "csv") String format){
+        StreamingResponseBody body;
+        MediaType mediaType;
+        if ("csv".equalsIgnoreCase(format)) {
+            body = service::streamOrdersAsCsv;
+            mediaType = new MediaType("text", "csv", StandardCharsets.UTF_8);
+        } else if ("ndjson".equalsIgnoreCase(format)) {
+            body = service::streamOrdersAsJson;
+            mediaType = NDJSON;
+        } else {
+            throw new InvalidRequestException("Unsupported export format: " + format);
+        }
+        return ResponseEntity.status(200)
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders." + format.toLowerCase() + "\"")
+                .body(body);
+    }
+
     /**
      * Retrieves an order by its ID.
      *
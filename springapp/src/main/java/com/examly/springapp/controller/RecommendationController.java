@@ -0,0 +1,66 @@
+package com.examly.springapp.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.examly.springapp.model.CourseRankDTO;
+import com.examly.springapp.service.RecommendationService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+/**
+ * RecommendationController class to handle course recommendation endpoints.
+ * Annotated with `@RestController` to indicate a RESTful controller.
+ * Mapped to the `/api/recommendation` base path using `@RequestMapping`.
+ * 
+ * @author Shantanu
+ */
+@RestController
+@RequestMapping("/api/recommendation")
+public class RecommendationController {
+
+    private final RecommendationService recommendationService;
+
+    public RecommendationController(RecommendationService recommendationService) {
+        this.recommendationService = recommendationService;
+    }
+
+    /**
+     * Retrieves the courses customers bought together with a course.
+     *
+     * @param courseId the ID of the course.
+     * @param limit    the maximum number of courses to return.
+     * @return a `ResponseEntity` containing the recommended courses, best first.
+     */
+    @Operation(description="Retrieving courses bought together with a course")
+    @ApiResponse(responseCode="200",description="Status code after retrieving courses bought together")
+    @GetMapping("/course/{courseId}")
+    public ResponseEntity<List<CourseRankDTO>> getAlsoBought(@PathVariable long courseId,
+            @RequestParam(defaultValue = "5") int limit) {
+        List<CourseRankDTO> courses = recommendationService.getAlsoBought(courseId, limit);
+        return ResponseEntity.status(200).body(courses);
+    }
+
+    /**
+     * Rebuilds the recommendations from the whole order history.
+     *
+     * @return a `ResponseEntity` containing the number of orders read.
+     */
+    @Operation(description="Rebuilding course recommendations")
+    @ApiResponse(responseCode="200",description="Status code after rebuilding course recommendations")
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Integer> rebuild() {
+        int orders = recommendationService.rebuild();
+        return ResponseEntity.status(200).body(orders);
+    }
+}
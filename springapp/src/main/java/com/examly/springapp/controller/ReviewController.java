@@ -14,7 +14,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.examly.springapp.model.CourseRating;
 import com.examly.springapp.model.Review;
+import com.examly.springapp.model.ReviewSummaryDTO;
 import com.examly.springapp.service.ReviewService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -68,6 +70,20 @@ public class ReviewController {
         return ResponseEntity.status(200).body(reviewList);
     }
 
+    /**
+     * Retrieves the admin listing of all reviews with only the displayed columns.
+     *
+     * @return a `ResponseEntity` containing a list of review summaries or an error status.
+     */
+    @Operation(description="Retrieving List of review summaries")
+    @ApiResponse(responseCode="200",description="Status code after retrieving all review summaries")
+    @GetMapping("/summary")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<List<ReviewSummaryDTO>> getReviewSummaries(){
+        List<ReviewSummaryDTO> reviewList = reviewService.getReviewSummaries();
+        return ResponseEntity.status(200).body(reviewList);
+    }
+
     /**
      * Retrieves a review by its ID.
      *
@@ -96,6 +112,34 @@ public class ReviewController {
         return ResponseEntity.status(200).body(reviewList);
     }
 
+    /**
+     * Retrieves the reviews of a course.
+     *
+     * @param courseId the ID of the course.
+     * @return a `ResponseEntity` containing the list of `Review` entities for the course.
+     */
+    @Operation(description="Retrieving reviews by courseId")
+    @ApiResponse(responseCode="200",description="Status code after retrieving reviews by courseId")
+    @GetMapping("/course/{courseId}")
+    public ResponseEntity<List<Review>> getReviewsByCourseId(@PathVariable long courseId){
+        List<Review> reviewList = reviewService.getReviewsByCourseId(courseId);
+        return ResponseEntity.status(200).body(reviewList);
+    }
+
+    /**
+     * Retrieves the rating count, average and star histogram of a course.
+     *
+     * @param courseId the ID of the course.
+     * @return a `ResponseEntity` containing the `CourseRating` of the course or an error status.
+     */
+    @Operation(description="Retrieving rating aggregate by courseId")
+    @ApiResponse(responseCode="200",description="Status code after retrieving rating aggregate by courseId")
+    @GetMapping("/course/{courseId}/rating")
+    public ResponseEntity<CourseRating> getCourseRating(@PathVariable long courseId){
+        CourseRating rating = reviewService.getCourseRating(courseId);
+        return ResponseEntity.status(200).body(rating);
+    }
+
     /**
      * Deletes a review by its ID.
      *
@@ -1,5 +1,7 @@
 package com.examly.springapp.exception;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -48,6 +50,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(204).body(e.getMessage());
     }
 
+    /**
+     * Handles InvalidRequestException raised for invalid request parameters.
+     *
+     * @param e the InvalidRequestException that was thrown.
+     * @return a ResponseEntity with a 400 status and the exception message.
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<String> handleInvalidRequestException(InvalidRequestException e) {
+        return ResponseEntity.status(400).body(e.getMessage());
+    }
+
      /**
      * Handles NoContentFoundException.
      *
@@ -58,6 +71,38 @@ public class GlobalExceptionHandler {
     public ResponseEntity<String> handleNoContentException(NoContentException e){
         return ResponseEntity.status(204).body(e.getMessage());
     }
-}
 
+    /**
+     * Handles StaleVersionException.
+     *
+     * @param e the StaleVersionException that was thrown.
+     * @return a ResponseEntity with a 409 status and the exception message.
+     */
+    @ExceptionHandler(StaleVersionException.class)
+    public ResponseEntity<String> handleStaleVersionException(StaleVersionException e) {
+        return ResponseEntity.status(409).body(e.getMessage());
+    }
+
+    /**
+     * Handles OptimisticLockingFailureException left over after the retries ran out.
+     *
+     * @param e the OptimisticLockingFailureException that was thrown.
+     * @return a ResponseEntity with a 409 status and a retry hint.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(409).body("Concurrent Update Detected, Please Retry.");
+    }
 
+    /**
+     * Handles DataIntegrityViolationException, e.g. a second cart for the same customer
+     * or a second user with the same email.
+     *
+     * @param e the DataIntegrityViolationException that was thrown.
+     * @return a ResponseEntity with a 409 status and a generic message.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<String> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        return ResponseEntity.status(409).body("Request Conflicts With Existing Data.");
+    }
+}
@@ -0,0 +1,28 @@
+package com.examly.springapp.exception;
+
+/**
+ * Custom exception to handle request parameters that fail validation, such as
+ * an unsupported sort key, an out of range page size or an unknown window.
+ * 
+ * Extends `RuntimeException` to allow unchecked exceptions.
+ */
+
+public class InvalidRequestException extends RuntimeException {
+    /**
+     * Default constructor for `InvalidRequestException`.
+     * Initializes the exception with no message.
+     */
+    public InvalidRequestException() {
+        super();
+    }
+
+    /**
+     * Constructor for `InvalidRequestException`.
+     *
+     * @param msg the exception message describing the error.
+     */
+    public InvalidRequestException(String msg) {
+        super(msg);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.examly.springapp.exception;
+
+/**
+ * Custom exception to handle updates sent against a version of an entity that
+ * has since been changed by someone else.
+ * 
+ * Extends `RuntimeException` to allow unchecked exceptions.
+ */
+
+public class StaleVersionException extends RuntimeException {
+    /**
+     * Default constructor for `StaleVersionException`.
+     * Initializes the exception with no message.
+     */
+    public StaleVersionException() {
+        super();
+    }
+
+    /**
+     * Constructor for `StaleVersionException`.
+     *
+     * @param msg the exception message describing the error.
+     */
+    public StaleVersionException(String msg) {
+        super(msg);
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.examly.springapp.model;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the admin dashboard tiles: row counts and revenue.
+ */
+public class AdminSummaryDTO {
+
+    private final long users;
+    private final long customers;
+    private final long courses;
+    private final long reviews;
+    private final long orders;
+    private final double revenue;
+    private final List<OrderStatusCountDTO> ordersByStatus;
+    private final long generatedAt;
+
+    /**
+     * Constructor for the admin summary.
+     *
+     * @param users          the number of users.
+     * @param customers      the number of customers.
+     * @param courses        the number of courses.
+     * @param reviews        the number of reviews.
+     * @param orders         the number of orders.
+     * @param revenue        the sum of every order price.
+     * @param ordersByStatus the order count and revenue per status.
+     * @param generatedAt    the time the counts were taken, in epoch milliseconds.
+     */
+    public AdminSummaryDTO(long users, long customers, long courses, long reviews, long orders, double revenue,
+            List<OrderStatusCountDTO> ordersByStatus, long generatedAt) {
+        this.users = users;
+        this.customers = customers;
+        this.courses = courses;
+        this.reviews = reviews;
+        this.orders = orders;
+        this.revenue = revenue;
+        this.ordersByStatus = ordersByStatus;
+        this.generatedAt = generatedAt;
+    }
+
+    public long getUsers() {
+        return users;
+    }
+
+    public long getCustomers() {
+        return customers;
+    }
+
+    public long getCourses() {
+        return courses;
+    }
+
+    public long getReviews() {
+        return reviews;
+    }
+
+    public long getOrders() {
+        return orders;
+    }
+
+    public double getRevenue() {
+        return revenue;
+    }
+
+    public List<OrderStatusCountDTO> getOrdersByStatus() {
+        return ordersByStatus;
+    }
+
+    public long getGeneratedAt() {
+        return generatedAt;
+    }
+}
@@ -2,16 +2,26 @@ package com.examly.springapp.model;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import com.examly.springapp.config.PooledIdGenerator;
+import com.examly.springapp.config.SecondLevelCacheConfig;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 
 /**
@@ -24,16 +34,18 @@ import jakarta.validation.constraints.NotNull;
  */
 
 @Entity
-@Table(name = "carts")
+@Table(name = "carts", uniqueConstraints = @UniqueConstraint(name = "uk_carts_customer_id", columnNames = "customer_id"))
 public class Cart {
 
     /**
      * Unique identifier for a cart.
      * Annotated with `@Id` to denote the primary key.
-     * Uses `@GeneratedValue` with the strategy `GenerationType.AUTO` for ID generation.
+     * Uses `@GeneratedValue` with the pooled `PooledIdGenerator` over the `carts_seq` sequence.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "carts_seq")
+    @GenericGenerator(name = "carts_seq", strategy = PooledIdGenerator.STRATEGY,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "carts_seq"))
     private long cartId;
 
     /**
@@ -51,8 +63,10 @@ public class Cart {
      * 
      * Annotated with `@ManyToMany` to denote the many-to-many relationship with the `Course` entity.
      * Uses `@JoinTable` to specify the join table and foreign key columns.
+     * Annotated with `@Cache` to keep the course IDs in the `cart-courses` second-level cache region.
      */
     @ManyToMany()
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.CART_COURSES)
     @JoinTable(
         name = "cart_course",
         joinColumns = @JoinColumn(name = "cart_id"),
@@ -62,11 +76,21 @@ public class Cart {
 
     /**
      * Total amount for the items in the cart.
+     * Maintained by the server from the current course prices; any value sent by
+     * the client is ignored.
      */
     @Column(nullable = false)
     @NotNull(message = "Total amount cannot be null")
     private double totalAmount;
 
+    /**
+     * Optimistic lock version, incremented on every change to the cart.
+     * Annotated with `@Version` so a stale update fails instead of overwriting.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * Default constructor for the Cart class.
      */
@@ -145,4 +169,22 @@ public class Cart {
     public void setTotalAmount(double totalAmount) {
         this.totalAmount = totalAmount;
     }
+
+    /**
+     * Getter for version.
+     *
+     * @return the optimistic lock version of the cart.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Setter for version.
+     *
+     * @param version the version the client last read, or null to skip the check.
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
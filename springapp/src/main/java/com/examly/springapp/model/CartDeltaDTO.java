@@ -0,0 +1,46 @@
+package com.examly.springapp.model;
+
+/**
+ * Data Transfer Object returned by the single-course cart mutations.
+ * 
+ * Reports which cart and course were touched and whether the cart actually
+ * changed, instead of echoing the full `Cart` entity with its courses.
+ */
+public class CartDeltaDTO {
+
+    private final long cartId;
+    private final long courseId;
+    private final boolean changed;
+    private final double totalAmount;
+
+    /**
+     * Constructor for initializing a cart delta.
+     *
+     * @param cartId   the unique identifier of the cart.
+     * @param courseId the unique identifier of the course added or removed.
+     * @param changed  false if the course was already in, or already absent from, the cart.
+     * @param totalAmount the cart total after the change.
+     */
+    public CartDeltaDTO(long cartId, long courseId, boolean changed, double totalAmount) {
+        this.cartId = cartId;
+        this.courseId = courseId;
+        this.changed = changed;
+        this.totalAmount = totalAmount;
+    }
+
+    public long getCartId() {
+        return cartId;
+    }
+
+    public long getCourseId() {
+        return courseId;
+    }
+
+    public boolean isChanged() {
+        return changed;
+    }
+
+    public double getTotalAmount() {
+        return totalAmount;
+    }
+}
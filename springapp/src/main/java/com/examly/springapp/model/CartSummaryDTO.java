@@ -0,0 +1,54 @@
+package com.examly.springapp.model;
+
+/**
+ * Data Transfer Object for one row of the admin cart listing.
+ * 
+ * Carries the cart totals and owner instead of the full `Cart` entity with its
+ * courses, `Customer` and `User`.
+ */
+public class CartSummaryDTO {
+
+    private final long cartId;
+    private final String customerName;
+    private final String customerEmail;
+    private final int courseCount;
+    private final double totalAmount;
+
+    /**
+     * Constructor used by the JPQL constructor expression in `CartRepo`.
+     *
+     * @param cartId        the unique identifier of the cart.
+     * @param customerName  the name of the customer who owns the cart.
+     * @param customerEmail the email of the customer who owns the cart.
+     * @param courseCount   the number of courses in the cart.
+     * @param totalAmount   the total amount for the items in the cart.
+     */
+    public CartSummaryDTO(long cartId, String customerName, String customerEmail, int courseCount,
+            double totalAmount) {
+        this.cartId = cartId;
+        this.customerName = customerName;
+        this.customerEmail = customerEmail;
+        this.courseCount = courseCount;
+        this.totalAmount = totalAmount;
+    }
+
+    public long getCartId() {
+        return cartId;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public int getCourseCount() {
+        return courseCount;
+    }
+
+    public double getTotalAmount() {
+        return totalAmount;
+    }
+}
@@ -1,9 +1,20 @@
 package com.examly.springapp.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import com.examly.springapp.config.PooledIdGenerator;
+import com.examly.springapp.config.SecondLevelCacheConfig;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 
@@ -12,20 +23,28 @@ import jakarta.validation.constraints.NotNull;
  * 
  * Annotated with `@Entity` to map the class to a database table.
  * Annotated with `@Table` to specify the table name in the database.
+ * Annotated with `@Cache` to keep instances in the `courses` second-level cache region.
  * 
  *  @author Priya
  */
 @Entity
-@Table(name = "courses")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.COURSES)
+@Table(name = "courses", indexes = {
+    @Index(name = "idx_courses_price_id", columnList = "coursePrice, courseId"),
+    @Index(name = "idx_courses_type_id", columnList = "courseType, courseId")
+})
 public class Course {
 
     /**
      * Unique identifier for a course.
      * Annotated with `@Id` to denote the primary key.
-     * Uses `@GeneratedValue` with the strategy `GenerationType.AUTO` for ID generation.
+     * Uses `@GeneratedValue` with the pooled `PooledIdGenerator` over the `courses_seq` sequence.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "courses_seq")
+    @GenericGenerator(name = "courses_seq", strategy = PooledIdGenerator.STRATEGY,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "courses_seq"))
     private long courseId;
 
     /**
@@ -52,6 +71,20 @@ public class Course {
     @NotNull(message = "Course price cannot be null")
     private double coursePrice;
 
+    /**
+     * Number of ratings the course has received.
+     * Uses `@Formula` to read it from the `course_ratings` aggregate by primary key.
+     */
+    @Formula("coalesce((select r.rating_count from course_ratings r where r.course_id = course_id), 0)")
+    private int ratingCount;
+
+    /**
+     * Average rating of the course, or null if it has no ratings.
+     * Uses `@Formula` to read it from the `course_ratings` aggregate by primary key.
+     */
+    @Formula("(select r.rating_sum * 1.0 / nullif(r.rating_count, 0) from course_ratings r where r.course_id = course_id)")
+    private Double averageRating;
+
     /**
      * Default constructor for the Course class.
      */
@@ -164,4 +197,22 @@ public class Course {
     public void setCoursePrice(double coursePrice) {
         this.coursePrice = coursePrice;
     }
+
+    /**
+     * Getter for ratingCount.
+     *
+     * @return the number of ratings the course has received.
+     */
+    public int getRatingCount() {
+        return ratingCount;
+    }
+
+    /**
+     * Getter for averageRating.
+     *
+     * @return the average rating of the course, or null if it has no ratings.
+     */
+    public Double getAverageRating() {
+        return averageRating;
+    }
 }
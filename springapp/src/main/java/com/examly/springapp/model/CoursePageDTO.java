@@ -0,0 +1,116 @@
+package com.examly.springapp.model;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one page of the course listing.
+ * 
+ * Carries the page content together with the keyset cursor (`nextAfterValue`,
+ * `nextAfterId`) that fetches the following page.
+ */
+public class CoursePageDTO {
+
+    /**
+     * Courses on this page.
+     */
+    private List<Course> content;
+
+    /**
+     * Zero-based page number, or -1 for a keyset page.
+     */
+    private int page;
+
+    /**
+     * Requested page size.
+     */
+    private int size;
+
+    /**
+     * Whether another page follows this one.
+     */
+    private boolean hasNext;
+
+    /**
+     * Sort key value of the last course on this page, or null if there is no next page.
+     */
+    private String nextAfterValue;
+
+    /**
+     * ID of the last course on this page, or null if there is no next page.
+     */
+    private Long nextAfterId;
+
+    /**
+     * Default constructor for the CoursePageDTO class.
+     */
+    public CoursePageDTO() {
+    }
+
+    /**
+     * Custom constructor for initializing a CoursePageDTO with specific attributes.
+     *
+     * @param content        the courses on this page.
+     * @param page           the zero-based page number, or -1 for a keyset page.
+     * @param size           the requested page size.
+     * @param hasNext        whether another page follows.
+     * @param nextAfterValue the sort key value of the last course, or null.
+     * @param nextAfterId    the ID of the last course, or null.
+     */
+    public CoursePageDTO(List<Course> content, int page, int size, boolean hasNext, String nextAfterValue,
+            Long nextAfterId) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextAfterValue = nextAfterValue;
+        this.nextAfterId = nextAfterId;
+    }
+
+    public List<Course> getContent() {
+        return content;
+    }
+
+    public void setContent(List<Course> content) {
+        this.content = content;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getNextAfterValue() {
+        return nextAfterValue;
+    }
+
+    public void setNextAfterValue(String nextAfterValue) {
+        this.nextAfterValue = nextAfterValue;
+    }
+
+    public Long getNextAfterId() {
+        return nextAfterId;
+    }
+
+    public void setNextAfterId(Long nextAfterId) {
+        this.nextAfterId = nextAfterId;
+    }
+}
@@ -0,0 +1,36 @@
+package com.examly.springapp.model;
+
+/**
+ * Data Transfer Object for one place on a course leaderboard.
+ */
+public class CourseRankDTO {
+
+    private final int rank;
+    private final Course course;
+    private final double score;
+
+    /**
+     * Constructor for a leaderboard place.
+     *
+     * @param rank   the one-based position on the leaderboard.
+     * @param course the ranked course.
+     * @param score  the value the course is ranked by: sales in the window, or average rating.
+     */
+    public CourseRankDTO(int rank, Course course, double score) {
+        this.rank = rank;
+        this.course = course;
+        this.score = score;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public Course getCourse() {
+        return course;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
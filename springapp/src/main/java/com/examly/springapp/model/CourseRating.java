@@ -0,0 +1,107 @@
+package com.examly.springapp.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity class holding the rating aggregate of a Course.
+ *
+ * Annotated with `@Entity` to map the class to a database table.
+ * Annotated with `@Table` to specify the table name in the database.
+ *
+ * One row per course, created with the course and adjusted in place by every
+ * review written or deleted for it, so the average rating and star histogram
+ * never require reading the reviews themselves.
+ *
+ * @author Priyanjali
+ */
+@Entity
+@Table(name = "course_ratings")
+public class CourseRating {
+
+    /**
+     * ID of the rated course, shared with `Course`.
+     */
+    @Id
+    private long courseId;
+
+    /**
+     * Number of reviews rating the course.
+     */
+    private int ratingCount;
+
+    /**
+     * Sum of the ratings of those reviews.
+     */
+    private long ratingSum;
+
+    /**
+     * Number of 1 to 5 star ratings.
+     */
+    private int stars1;
+    private int stars2;
+    private int stars3;
+    private int stars4;
+    private int stars5;
+
+    /**
+     * Default constructor for the CourseRating class.
+     */
+    public CourseRating() {
+    }
+
+    /**
+     * Custom constructor for the empty aggregate of a new course.
+     *
+     * @param courseId the ID of the rated course.
+     */
+    public CourseRating(long courseId) {
+        this.courseId = courseId;
+    }
+
+    /**
+     * Getter for courseId.
+     *
+     * @return the ID of the rated course.
+     */
+    public long getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * Getter for ratingCount.
+     *
+     * @return the number of reviews rating the course.
+     */
+    public int getRatingCount() {
+        return ratingCount;
+    }
+
+    /**
+     * Getter for ratingSum.
+     *
+     * @return the sum of the ratings.
+     */
+    public long getRatingSum() {
+        return ratingSum;
+    }
+
+    /**
+     * Computes the average rating.
+     *
+     * @return the average rating, or null if the course has no ratings.
+     */
+    public Double getAverageRating() {
+        return ratingCount == 0 ? null : (double) ratingSum / ratingCount;
+    }
+
+    /**
+     * Getter for the star histogram.
+     *
+     * @return the number of 1, 2, 3, 4 and 5 star ratings, in that order.
+     */
+    public int[] getHistogram() {
+        return new int[] { stars1, stars2, stars3, stars4, stars5 };
+    }
+}
@@ -0,0 +1,38 @@
+package com.examly.springapp.model;
+
+import java.util.Date;
+
+/**
+ * Data Transfer Object for one course sold in one order, with the time of the order.
+ */
+public class CourseSaleDTO {
+
+    private final long orderId;
+    private final long courseId;
+    private final Date createdAt;
+
+    /**
+     * Constructor used by the JPQL constructor expression in `OrderRepo`.
+     *
+     * @param orderId   the unique identifier of the order.
+     * @param courseId  the unique identifier of the course sold.
+     * @param createdAt the time the order was placed.
+     */
+    public CourseSaleDTO(long orderId, long courseId, Date createdAt) {
+        this.orderId = orderId;
+        this.courseId = courseId;
+        this.createdAt = createdAt;
+    }
+
+    public long getOrderId() {
+        return orderId;
+    }
+
+    public long getCourseId() {
+        return courseId;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+}
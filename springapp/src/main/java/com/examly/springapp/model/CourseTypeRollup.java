@@ -0,0 +1,116 @@
+package com.examly.springapp.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+/**
+ * Entity class holding the courses of one type sold on one day in orders with
+ * one status.
+ *
+ * Annotated with `@Entity` to map the class to a database table.
+ * Annotated with `@Table` to specify the table name in the database.
+ * Uses `@IdClass` for the composite key of day, status and course type.
+ *
+ * @author Shantanu
+ */
+@Entity
+@Table(name = "course_type_rollups")
+@IdClass(CourseTypeRollup.Key.class)
+public class CourseTypeRollup {
+
+    /**
+     * Day the orders were placed.
+     */
+    @Id
+    private LocalDate salesDate;
+
+    /**
+     * Status of the orders, or an empty string for orders without one.
+     */
+    @Id
+    private String status;
+
+    /**
+     * Type of the courses sold, or an empty string for courses without one.
+     */
+    @Id
+    private String courseType;
+
+    /**
+     * Number of courses sold.
+     */
+    private long sales;
+
+    /**
+     * Sum of the prices of the courses sold.
+     */
+    private double revenue;
+
+    /**
+     * Default constructor for the CourseTypeRollup class.
+     */
+    public CourseTypeRollup() {
+    }
+
+    public LocalDate getSalesDate() {
+        return salesDate;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getCourseType() {
+        return courseType;
+    }
+
+    public long getSales() {
+        return sales;
+    }
+
+    public double getRevenue() {
+        return revenue;
+    }
+
+    /**
+     * Composite key of a `CourseTypeRollup`.
+     */
+    public static class Key implements Serializable {
+        private LocalDate salesDate;
+        private String status;
+        private String courseType;
+
+        public Key() {
+        }
+
+        public Key(LocalDate salesDate, String status, String courseType) {
+            this.salesDate = salesDate;
+            this.status = status;
+            this.courseType = courseType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return Objects.equals(salesDate, other.salesDate) && Objects.equals(status, other.status)
+                    && Objects.equals(courseType, other.courseType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(salesDate, status, courseType);
+        }
+    }
+}
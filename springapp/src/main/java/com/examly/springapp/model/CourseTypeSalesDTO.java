@@ -0,0 +1,36 @@
+package com.examly.springapp.model;
+
+/**
+ * Data Transfer Object for the courses of one type sold over a report's range.
+ */
+public class CourseTypeSalesDTO {
+
+    private final String courseType;
+    private final long sales;
+    private final double revenue;
+
+    /**
+     * Constructor for the sales of a course type.
+     *
+     * @param courseType the course type.
+     * @param sales      the number of courses of the type sold.
+     * @param revenue    the sum of their course prices.
+     */
+    public CourseTypeSalesDTO(String courseType, long sales, double revenue) {
+        this.courseType = courseType;
+        this.sales = sales;
+        this.revenue = revenue;
+    }
+
+    public String getCourseType() {
+        return courseType;
+    }
+
+    public long getSales() {
+        return sales;
+    }
+
+    public double getRevenue() {
+        return revenue;
+    }
+}
@@ -1,13 +1,23 @@
 package com.examly.springapp.model;
 
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import com.examly.springapp.config.PooledIdGenerator;
+import com.examly.springapp.config.SecondLevelCacheConfig;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotNull;
 
 /**
@@ -15,20 +25,25 @@ import jakarta.validation.constraints.NotNull;
  * 
  * Annotated with `@Entity` to map the class to a database table.
  * Annotated with `@Table` to specify the table name in the database.
+ * Annotated with `@Cache` to keep instances in the `customers` second-level cache region.
  * 
  * @author Srikanth Moparthi
  */
 @Entity
-@Table(name = "customers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.CUSTOMERS)
+@Table(name = "customers", uniqueConstraints = @UniqueConstraint(name = "uk_customers_user_id", columnNames = "user_id"))
 public class Customer {
 
     /**
      * Unique identifier for a customer.
      * Annotated with `@Id` to denote the primary key.
-     * Uses `@GeneratedValue` with the strategy `GenerationType.AUTO` for ID generation.
+     * Uses `@GeneratedValue` with the pooled `PooledIdGenerator` over the `customers_seq` sequence.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "customers_seq")
+    @GenericGenerator(name = "customers_seq", strategy = PooledIdGenerator.STRATEGY,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "customers_seq"))
     private long customerId;
 
     /**
@@ -0,0 +1,92 @@
+package com.examly.springapp.model;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Entity class representing the stored response of an idempotent request.
+ * 
+ * Annotated with `@Entity` to map the class to a database table.
+ * Annotated with `@Table` to specify the table name in the database.
+ * 
+ * @author Shantanu
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "createdAt"))
+public class IdempotencyRecord {
+
+    /**
+     * The `Idempotency-Key` header sent by the client.
+     */
+    @Id
+    @Column(length = 128)
+    private String idempotencyKey;
+
+    /**
+     * SHA-256 of the request the key was first used with.
+     */
+    @Column(length = 64, nullable = false)
+    private String requestHash;
+
+    /**
+     * JSON body of the response returned for the first request.
+     */
+    @Lob
+    @Column(nullable = false, length = 16777215)
+    private String responseBody;
+
+    /**
+     * Date the key was first used.
+     * Uses `@Temporal` with `TemporalType.TIMESTAMP` to store date and time.
+     */
+    @Temporal(TemporalType.TIMESTAMP)
+    @NotNull(message = "Date created cannot be null")
+    private Date createdAt;
+
+    /**
+     * Default constructor for the IdempotencyRecord class.
+     */
+    public IdempotencyRecord() {
+        //NO SONAR
+    }
+
+    /**
+     * Custom constructor for initializing a stored response.
+     *
+     * @param idempotencyKey the key sent by the client.
+     * @param requestHash    the hash of the original request.
+     * @param responseBody   the JSON body of the original response.
+     * @param createdAt      the date the key was first used.
+     */
+    public IdempotencyRecord(String idempotencyKey, String requestHash, String responseBody, Date createdAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.responseBody = responseBody;
+        this.createdAt = createdAt;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+}
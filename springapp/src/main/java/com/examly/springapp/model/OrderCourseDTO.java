@@ -0,0 +1,50 @@
+package com.examly.springapp.model;
+
+/**
+ * Data Transfer Object for one course line of an order in the admin order listing.
+ */
+public class OrderCourseDTO {
+
+    private final long orderId;
+    private final long courseId;
+    private final String courseType;
+    private final String courseDetails;
+    private final double coursePrice;
+
+    /**
+     * Constructor used by the JPQL constructor expression in `OrderRepo`.
+     *
+     * @param orderId       the order this line belongs to.
+     * @param courseId      the unique identifier of the course.
+     * @param courseType    the type of the course.
+     * @param courseDetails the details about the course.
+     * @param coursePrice   the price of the course.
+     */
+    public OrderCourseDTO(long orderId, long courseId, String courseType, String courseDetails, double coursePrice) {
+        this.orderId = orderId;
+        this.courseId = courseId;
+        this.courseType = courseType;
+        this.courseDetails = courseDetails;
+        this.coursePrice = coursePrice;
+    }
+
+    public long getOrderId() {
+        return orderId;
+    }
+
+    public long getCourseId() {
+        return courseId;
+    }
+
+    public String getCourseType() {
+        return courseType;
+    }
+
+    public String getCourseDetails() {
+        return courseDetails;
+    }
+
+    public double getCoursePrice() {
+        return coursePrice;
+    }
+}
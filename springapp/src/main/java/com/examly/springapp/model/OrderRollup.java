@@ -0,0 +1,105 @@
+package com.examly.springapp.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+/**
+ * Entity class holding the orders placed on one day with one status.
+ *
+ * Annotated with `@Entity` to map the class to a database table.
+ * Annotated with `@Table` to specify the table name in the database.
+ * Uses `@IdClass` for the composite key of day and status.
+ *
+ * Rows are adjusted in place by every order written, deleted or moved to
+ * another status, so sales reports never read the orders themselves.
+ *
+ * @author Shantanu
+ */
+@Entity
+@Table(name = "order_rollups")
+@IdClass(OrderRollup.Key.class)
+public class OrderRollup {
+
+    /**
+     * Day the orders were placed.
+     */
+    @Id
+    private LocalDate salesDate;
+
+    /**
+     * Status of the orders, or an empty string for orders without one.
+     */
+    @Id
+    private String status;
+
+    /**
+     * Number of orders.
+     */
+    private long orderCount;
+
+    /**
+     * Sum of the order prices.
+     */
+    private double revenue;
+
+    /**
+     * Default constructor for the OrderRollup class.
+     */
+    public OrderRollup() {
+    }
+
+    public LocalDate getSalesDate() {
+        return salesDate;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public double getRevenue() {
+        return revenue;
+    }
+
+    /**
+     * Composite key of an `OrderRollup`.
+     */
+    public static class Key implements Serializable {
+        private LocalDate salesDate;
+        private String status;
+
+        public Key() {
+        }
+
+        public Key(LocalDate salesDate, String status) {
+            this.salesDate = salesDate;
+            this.status = status;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return Objects.equals(salesDate, other.salesDate) && Objects.equals(status, other.status);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(salesDate, status);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.examly.springapp.model;
+
+/**
+ * Data Transfer Object for the number and total price of the orders with one status.
+ */
+public class OrderStatusCountDTO {
+
+    private final String status;
+    private final long orderCount;
+    private final double revenue;
+
+    /**
+     * Constructor used by the JPQL constructor expression in `OrderRepo`.
+     *
+     * @param status     the order status, or null for orders without one.
+     * @param orderCount the number of orders with the status.
+     * @param revenue    the sum of their order prices.
+     */
+    public OrderStatusCountDTO(String status, long orderCount, double revenue) {
+        this.status = status;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public double getRevenue() {
+        return revenue;
+    }
+}
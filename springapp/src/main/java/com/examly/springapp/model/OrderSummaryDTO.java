@@ -0,0 +1,62 @@
+package com.examly.springapp.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for one row of the admin order listing.
+ * 
+ * Carries only the columns the order table renders, instead of the full
+ * `Orders` entity with its nested `Customer` and `User`.
+ */
+public class OrderSummaryDTO {
+
+    private final long orderId;
+    private final double orderPrice;
+    private final String status;
+    private final String customerName;
+    private final String customerEmail;
+    private final List<OrderCourseDTO> courses = new ArrayList<>();
+
+    /**
+     * Constructor used by the JPQL constructor expression in `OrderRepo`.
+     *
+     * @param orderId       the unique identifier of the order.
+     * @param orderPrice    the total price of the order.
+     * @param status        the status of the order.
+     * @param customerName  the name of the customer who placed the order.
+     * @param customerEmail the email of the customer who placed the order.
+     */
+    public OrderSummaryDTO(long orderId, double orderPrice, String status, String customerName,
+            String customerEmail) {
+        this.orderId = orderId;
+        this.orderPrice = orderPrice;
+        this.status = status;
+        this.customerName = customerName;
+        this.customerEmail = customerEmail;
+    }
+
+    public long getOrderId() {
+        return orderId;
+    }
+
+    public double getOrderPrice() {
+        return orderPrice;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public List<OrderCourseDTO> getCourses() {
+        return courses;
+    }
+}
@@ -1,17 +1,29 @@
 package com.examly.springapp.model;
 
+import java.util.Date;
 import java.util.List;
 
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import com.examly.springapp.config.PooledIdGenerator;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 
 /**
@@ -23,16 +35,22 @@ import jakarta.validation.constraints.NotNull;
  * @author Shantanu
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_customer_id", columnList = "customer_id"),
+    @Index(name = "idx_orders_status_price", columnList = "status, orderPrice"),
+    @Index(name = "idx_orders_created_at", columnList = "createdAt")
+})
 public class Orders {
 
     /**
      * Unique identifier for an order.
      * Annotated with `@Id` to denote the primary key.
-     * Uses `@GeneratedValue` with the strategy `GenerationType.AUTO` for ID generation.
+     * Uses `@GeneratedValue` with the pooled `PooledIdGenerator` over the `orders_seq` sequence.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "orders_seq")
+    @GenericGenerator(name = "orders_seq", strategy = PooledIdGenerator.STRATEGY,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "orders_seq"))
     private long orderId;
 
     /**
@@ -72,6 +90,22 @@ public class Orders {
     @NotNull(message = "Status cannot be null")
     private String status;
 
+    /**
+     * Optimistic lock version, incremented on every change to the order.
+     * Annotated with `@Version` so a stale update fails instead of overwriting.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Time the order was placed, or null for orders placed before it was recorded.
+     * Set by `onCreate` when the order is first persisted and never updated.
+     */
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(updatable = false)
+    private Date createdAt;
+
     public String getStatus() {
         return status;
     }
@@ -80,6 +114,15 @@ public class Orders {
         this.status = status;
     }
 
+    /**
+     * Stamps the order with the time it is first persisted.
+     * Annotated with `@PrePersist` so the client cannot backdate an order.
+     */
+    @PrePersist
+    void onCreate() {
+        createdAt = new Date();
+    }
+
     /**
      * Default constructor for the Orders class.
      */
@@ -172,4 +215,40 @@ public class Orders {
     public void setCustomer(Customer customer) {
         this.customer = customer;
     }
+
+    /**
+     * Getter for version.
+     *
+     * @return the optimistic lock version of the order.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Setter for version.
+     *
+     * @param version the version the client last read, or null to skip the check.
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    /**
+     * Getter for createdAt.
+     *
+     * @return the time the order was placed, or null if unknown.
+     */
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Setter for createdAt. Ignored on insert, where `onCreate` sets the time.
+     *
+     * @param createdAt the time the order was placed.
+     */
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
 }
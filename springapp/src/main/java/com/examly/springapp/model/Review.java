@@ -2,10 +2,16 @@ package com.examly.springapp.model;
 
 import java.util.Date;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import com.examly.springapp.config.PooledIdGenerator;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,16 +28,21 @@ import jakarta.validation.constraints.NotNull;
  * @author Priyanjali
  */
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+    @Index(name = "idx_reviews_customer_id", columnList = "customer_id"),
+    @Index(name = "idx_reviews_course_id", columnList = "course_id")
+})
 public class Review {
 
     /**
      * Unique identifier for a review.
      * Annotated with `@Id` to denote the primary key.
-     * Uses `@GeneratedValue` with the strategy `GenerationType.AUTO` for ID generation.
+     * Uses `@GeneratedValue` with the pooled `PooledIdGenerator` over the `reviews_seq` sequence.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "reviews_seq")
+    @GenericGenerator(name = "reviews_seq", strategy = PooledIdGenerator.STRATEGY,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "reviews_seq"))
     private long reviewId;
 
     /**
@@ -70,6 +81,15 @@ public class Review {
     @NotNull(message = "Customer cannot be null")
     private Customer customer;
 
+    /**
+     * The course being reviewed, or null for reviews written before reviews named a course.
+     * Annotated with `@ManyToOne` to denote the many-to-one relationship with the `Course` entity.
+     * Uses `@JoinColumn` to specify the foreign key column.
+     */
+    @ManyToOne()
+    @JoinColumn(name = "course_id")
+    private Course course;
+
     /**
      * Default constructor for the Review class.
      */
@@ -202,4 +222,22 @@ public class Review {
     public void setCustomer(Customer customer) {
         this.customer = customer;
     }
+
+    /**
+     * Getter for course.
+     *
+     * @return the course being reviewed, or null.
+     */
+    public Course getCourse() {
+        return course;
+    }
+
+    /**
+     * Setter for course.
+     *
+     * @param course the course being reviewed.
+     */
+    public void setCourse(Course course) {
+        this.course = course;
+    }
 }
@@ -0,0 +1,63 @@
+package com.examly.springapp.model;
+
+import java.util.Date;
+
+/**
+ * Data Transfer Object for one row of the admin review listing.
+ * 
+ * Carries only the columns the review table renders, instead of the full
+ * `Review` entity with its nested `Customer` and `User`.
+ */
+public class ReviewSummaryDTO {
+
+    private final long reviewId;
+    private final String customerName;
+    private final String subject;
+    private final String body;
+    private final int rating;
+    private final Date dateCreated;
+
+    /**
+     * Constructor used by the JPQL constructor expression in `ReviewRepo`.
+     *
+     * @param reviewId     the unique identifier of the review.
+     * @param customerName the name of the customer who wrote the review.
+     * @param subject      the subject of the review.
+     * @param body         the body of the review.
+     * @param rating       the rating given in the review.
+     * @param dateCreated  the date the review was created.
+     */
+    public ReviewSummaryDTO(long reviewId, String customerName, String subject, String body, int rating,
+            Date dateCreated) {
+        this.reviewId = reviewId;
+        this.customerName = customerName;
+        this.subject = subject;
+        this.body = body;
+        this.rating = rating;
+        this.dateCreated = dateCreated;
+    }
+
+    public long getReviewId() {
+        return reviewId;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public int getRating() {
+        return rating;
+    }
+
+    public Date getDateCreated() {
+        return dateCreated;
+    }
+}
@@ -0,0 +1,41 @@
+package com.examly.springapp.model;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Data Transfer Object for the orders of one day, week or month.
+ */
+public class SalesPeriodDTO {
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private final LocalDate periodStart;
+    private final long orderCount;
+    private final double revenue;
+
+    /**
+     * Constructor for the sales of a period.
+     *
+     * @param periodStart the first day of the period.
+     * @param orderCount  the number of orders placed in the period.
+     * @param revenue     the sum of their order prices.
+     */
+    public SalesPeriodDTO(LocalDate periodStart, long orderCount, double revenue) {
+        this.periodStart = periodStart;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public double getRevenue() {
+        return revenue;
+    }
+}
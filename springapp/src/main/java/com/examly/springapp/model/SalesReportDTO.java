@@ -0,0 +1,73 @@
+package com.examly.springapp.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Data Transfer Object for the admin sales report: totals over a range of days,
+ * the same totals per day, week or month, and course sales per course type.
+ */
+public class SalesReportDTO {
+
+    private final String granularity;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private final LocalDate from;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private final LocalDate to;
+    private final long orderCount;
+    private final double revenue;
+    private final List<SalesPeriodDTO> periods;
+    private final List<CourseTypeSalesDTO> courseTypes;
+
+    /**
+     * Constructor for a sales report.
+     *
+     * @param granularity the length of each period: `day`, `week` or `month`.
+     * @param from        the first day of the report.
+     * @param to          the last day of the report.
+     * @param orderCount  the number of orders placed in the range.
+     * @param revenue     the sum of their order prices.
+     * @param periods     the sales of every period in the range, oldest first.
+     * @param courseTypes the course sales per course type, highest revenue first.
+     */
+    public SalesReportDTO(String granularity, LocalDate from, LocalDate to, long orderCount, double revenue,
+            List<SalesPeriodDTO> periods, List<CourseTypeSalesDTO> courseTypes) {
+        this.granularity = granularity;
+        this.from = from;
+        this.to = to;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+        this.periods = periods;
+        this.courseTypes = courseTypes;
+    }
+
+    public String getGranularity() {
+        return granularity;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public double getRevenue() {
+        return revenue;
+    }
+
+    public List<SalesPeriodDTO> getPeriods() {
+        return periods;
+    }
+
+    public List<CourseTypeSalesDTO> getCourseTypes() {
+        return courseTypes;
+    }
+}
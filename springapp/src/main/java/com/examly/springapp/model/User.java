@@ -1,10 +1,24 @@
 package com.examly.springapp.model;
 
+import com.examly.springapp.config.PooledIdGenerator;
+import com.examly.springapp.config.SecondLevelCacheConfig;
+import com.examly.springapp.config.UserChangeListener;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotNull;
 
@@ -13,20 +27,26 @@ import jakarta.validation.constraints.NotNull;
  * 
  * Annotated with `@Entity` to map the class to a database table.
  * Annotated with `@Table` to specify the table name in the database.
+ * Annotated with `@Cache` to keep instances in the `users` second-level cache region.
  * 
  * @author SreyaReddy
  */
 @Entity
-@Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USERS)
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = "uk_users_email", columnNames = "email"))
+@EntityListeners(UserChangeListener.class)
 public class User {
 
     /**
      * Unique identifier for a user.
      * Annotated with `@Id` to denote the primary key.
-     * Uses `@GeneratedValue` with the strategy `GenerationType.AUTO` for ID generation.
+     * Uses `@GeneratedValue` with the pooled `PooledIdGenerator` over the `users_seq` sequence.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "users_seq")
+    @GenericGenerator(name = "users_seq", strategy = PooledIdGenerator.STRATEGY,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "users_seq"))
     private long userId;
 
     /**
@@ -39,6 +59,7 @@ public class User {
      * Password of the user.
      */
     @NotNull(message = "Password cannot be null")
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
 
     /**
@@ -68,6 +89,14 @@ public class User {
     @Transient
     private String information;
 
+    /**
+     * Email the user had when it was loaded or last written, set by `UserChangeListener`
+     * so that an email change can also evict what was cached under the old email.
+     */
+    @Transient
+    @JsonIgnore
+    private String loadedEmail;
+
     /**
      * Default constructor for the User class.
      */
@@ -216,4 +245,22 @@ public class User {
     public void setInformation(String information) {
         this.information = information;
     }
+
+    /**
+     * Getter for loadedEmail.
+     *
+     * @return the email the user had when it was loaded or last written.
+     */
+    public String getLoadedEmail() {
+        return loadedEmail;
+    }
+
+    /**
+     * Setter for loadedEmail.
+     *
+     * @param loadedEmail the email the user had when it was loaded or last written.
+     */
+    public void setLoadedEmail(String loadedEmail) {
+        this.loadedEmail = loadedEmail;
+    }
 }
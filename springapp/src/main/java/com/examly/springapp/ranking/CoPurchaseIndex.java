@@ -0,0 +1,375 @@
+package com.examly.springapp.ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory index of courses bought together, for "customers who bought this
+ * also bought" recommendations.
+ *
+ * Holds a sparse, symmetric co-occurrence matrix: for every course, the number
+ * of orders it shares with each other course, in primitive `long`/`int` maps.
+ * A recommendation is a bounded top-K pass over one row, with no SQL. Orders
+ * are applied once their transaction commits. A full rebuild reads the
+ * `order_course` table, splits the baskets across a fork/join pool and merges
+ * the partial matrices; orders committed or deleted while it runs are replayed
+ * onto the result, so the rebuilt matrix misses none of them.
+ *
+ * @author Shantanu
+ */
+@Component
+public class CoPurchaseIndex {
+
+    private static final String SELECT_BASKETS = "SELECT order_id, course_id FROM order_course ORDER BY order_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxResults;
+    private final int splitThreshold;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+
+    // courseId -> (courseId bought with it -> number of orders with both)
+    private LongObjectHashMap<LongIntHashMap> matrix = new LongObjectHashMap<>();
+    // orders applied while a rebuild is reading, or null when none is running
+    private List<OrderChange> pending;
+
+    /**
+     * Constructor to inject the JDBC template and read the index limits.
+     *
+     * @param jdbcTemplate   the template used to read purchase baskets.
+     * @param maxResults     the maximum number of courses recommended per course.
+     * @param splitThreshold the number of orders below which a rebuild task stops splitting.
+     */
+    public CoPurchaseIndex(JdbcTemplate jdbcTemplate,
+            @Value("${recommendation.max-results:20}") int maxResults,
+            @Value("${recommendation.rebuild.split-threshold:2048}") int splitThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxResults = maxResults;
+        this.splitThreshold = Math.max(1, splitThreshold);
+    }
+
+    /**
+     * Builds the index from the order history once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the whole index from the `order_course` table.
+     *
+     * @return the number of orders read.
+     */
+    public int rebuild() {
+        synchronized (rebuildLock) {
+            beginRebuild();
+            Baskets baskets = new Baskets();
+            try {
+                jdbcTemplate.query(SELECT_BASKETS, rs -> {
+                    baskets.add(rs.getLong(1), rs.getLong(2));
+                });
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pending = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+            return rebuild(baskets.orderIds, baskets.courseIds, baskets.size);
+        }
+    }
+
+    /**
+     * Starts recording the orders applied from now on, to be replayed onto the
+     * matrix built by the next `rebuild`.
+     */
+    void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the index with one built from purchase baskets, then replays the
+     * orders applied since `beginRebuild`. The changes of each order are summed
+     * first, so only the difference between its final state and whether the
+     * rebuild read it is applied.
+     *
+     * @param orderIds  the order ID of each order line, in ascending order.
+     * @param courseIds the course ID of each order line.
+     * @param lines     the number of order lines.
+     * @return the number of orders read.
+     */
+    int rebuild(long[] orderIds, long[] courseIds, int lines) {
+        int[] starts = new int[16];
+        int orders = 0;
+        for (int line = 0; line < lines; line++) {
+            if (line == 0 || orderIds[line] != orderIds[line - 1]) {
+                if (orders + 1 >= starts.length) {
+                    starts = Arrays.copyOf(starts, starts.length * 2);
+                }
+                starts[orders++] = line;
+            }
+        }
+        starts[orders] = lines;
+        LongObjectHashMap<LongIntHashMap> rebuilt = ForkJoinPool.commonPool()
+                .invoke(new BuildTask(courseIds, starts, 0, orders));
+
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                LongObjectHashMap<NetChange> byOrder = new LongObjectHashMap<>();
+                for (OrderChange change : pending) {
+                    // an order whose first change is a deletion existed before the rebuild started
+                    byOrder.computeIfAbsent(change.orderId,
+                            id -> new NetChange(change.courseIds, change.delta < 0 ? 1 : 0)).net += change.delta;
+                }
+                byOrder.forEach((orderId, change) -> {
+                    int counted = Arrays.binarySearch(orderIds, 0, lines, orderId) >= 0 ? 1 : 0;
+                    int present = Math.max(0, Math.min(1, change.before + change.net));
+                    if (present != counted) {
+                        addBasket(rebuilt, change.courseIds, present - counted);
+                    }
+                });
+            }
+            matrix = rebuilt;
+            pending = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return orders;
+    }
+
+    /**
+     * Counts the courses of an order as bought together once the current
+     * transaction commits.
+     *
+     * @param orderId   the ID of the order.
+     * @param courseIds the courses in the order.
+     */
+    public void recordOrder(long orderId, List<Long> courseIds) {
+        afterCommit(new OrderChange(orderId, toArray(courseIds), 1));
+    }
+
+    /**
+     * Takes back the courses of a deleted order once the current transaction commits.
+     *
+     * @param orderId   the ID of the order.
+     * @param courseIds the courses in the order.
+     */
+    public void removeOrder(long orderId, List<Long> courseIds) {
+        afterCommit(new OrderChange(orderId, toArray(courseIds), -1));
+    }
+
+    /**
+     * Returns the courses most often bought together with a course.
+     *
+     * @param courseId the course to recommend for.
+     * @param limit    the maximum number of courses, capped at the configured maximum.
+     * @return the courses, most often bought together first; the score is the number of shared orders.
+     */
+    public List<RankedCourse> alsoBought(long courseId, int limit) {
+        int size = Math.min(Math.max(limit, 0), maxResults);
+        PriorityQueue<RankedCourse> heap = new PriorityQueue<>(RankedCourse.BY_SCORE);
+        lock.readLock().lock();
+        try {
+            LongIntHashMap row = matrix.get(courseId);
+            if (row != null) {
+                row.forEach((other, count) -> RankedCourse.offer(heap, new RankedCourse(other, count, count), size));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return RankedCourse.drain(heap);
+    }
+
+    private void apply(OrderChange change) {
+        lock.writeLock().lock();
+        try {
+            addBasket(matrix, change.courseIds, change.delta);
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds `delta` to every pair of distinct courses in one basket, in both directions.
+     */
+    private static void addBasket(LongObjectHashMap<LongIntHashMap> matrix, long[] courseIds, int delta) {
+        addBasket(matrix, courseIds, 0, courseIds.length, delta);
+    }
+
+    private static void addBasket(LongObjectHashMap<LongIntHashMap> matrix, long[] courseIds, int from, int to,
+            int delta) {
+        for (int i = from; i < to; i++) {
+            long course = courseIds[i];
+            if (indexOf(courseIds, from, i, course) >= 0) {
+                continue;
+            }
+            LongIntHashMap row = null;
+            for (int j = from; j < to; j++) {
+                long other = courseIds[j];
+                if (other != course && indexOf(courseIds, from, j, other) < 0) {
+                    if (row == null) {
+                        row = matrix.computeIfAbsent(course, id -> new LongIntHashMap());
+                    }
+                    row.addTo(other, delta);
+                }
+            }
+            if (row != null && row.size() == 0) {
+                matrix.remove(course);
+            }
+        }
+    }
+
+    private static int indexOf(long[] values, int from, int to, long value) {
+        for (int i = from; i < to; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long[] toArray(List<Long> courseIds) {
+        long[] array = new long[courseIds.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = courseIds.get(i);
+        }
+        return array;
+    }
+
+    private void afterCommit(OrderChange change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    /**
+     * Builds the matrix of the orders in `[from, to)`, splitting the range in two
+     * until it is below the threshold and merging the halves into the larger one.
+     */
+    private final class BuildTask extends RecursiveTask<LongObjectHashMap<LongIntHashMap>> {
+        private final long[] courseIds;
+        private final int[] starts;
+        private final int from;
+        private final int to;
+
+        BuildTask(long[] courseIds, int[] starts, int from, int to) {
+            this.courseIds = courseIds;
+            this.starts = starts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected LongObjectHashMap<LongIntHashMap> compute() {
+            if (to - from <= splitThreshold) {
+                LongObjectHashMap<LongIntHashMap> partial = new LongObjectHashMap<>();
+                for (int order = from; order < to; order++) {
+                    addBasket(partial, courseIds, starts[order], starts[order + 1], 1);
+                }
+                return partial;
+            }
+            int middle = (from + to) >>> 1;
+            BuildTask left = new BuildTask(courseIds, starts, from, middle);
+            left.fork();
+            LongObjectHashMap<LongIntHashMap> right = new BuildTask(courseIds, starts, middle, to).compute();
+            LongObjectHashMap<LongIntHashMap> merged = left.join();
+            if (merged.size() < right.size()) {
+                LongObjectHashMap<LongIntHashMap> swap = merged;
+                merged = right;
+                right = swap;
+            }
+            LongObjectHashMap<LongIntHashMap> target = merged;
+            right.forEach((course, row) -> {
+                LongIntHashMap existing = target.get(course);
+                if (existing == null) {
+                    target.computeIfAbsent(course, id -> row);
+                } else {
+                    existing.addAll(row);
+                }
+            });
+            return merged;
+        }
+    }
+
+    /**
+     * Order lines read by a rebuild, in growable primitive arrays.
+     */
+    private static final class Baskets {
+        private long[] orderIds = new long[1024];
+        private long[] courseIds = new long[1024];
+        private int size;
+
+        void add(long orderId, long courseId) {
+            if (size == orderIds.length) {
+                orderIds = Arrays.copyOf(orderIds, size * 2);
+                courseIds = Arrays.copyOf(courseIds, size * 2);
+            }
+            orderIds[size] = orderId;
+            courseIds[size] = courseId;
+            size++;
+        }
+    }
+
+    /**
+     * The changes to one order applied during a rebuild: whether it existed
+     * before the first of them, and their sum.
+     */
+    private static final class NetChange {
+        private final long[] courseIds;
+        private final int before;
+        private int net;
+
+        NetChange(long[] courseIds, int before) {
+            this.courseIds = courseIds;
+            this.before = before;
+        }
+    }
+
+    /**
+     * An order added (`delta` 1) or deleted (`delta` -1).
+     */
+    private static final class OrderChange {
+        private final long orderId;
+        private final long[] courseIds;
+        private final int delta;
+
+        OrderChange(long orderId, long[] courseIds, int delta) {
+            this.orderId = orderId;
+            this.courseIds = courseIds;
+            this.delta = delta;
+        }
+    }
+}
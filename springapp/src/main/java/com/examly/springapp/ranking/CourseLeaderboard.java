@@ -0,0 +1,391 @@
+package com.examly.springapp.ranking;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.examly.springapp.model.CourseRating;
+import com.examly.springapp.model.CourseSaleDTO;
+import com.examly.springapp.repository.CourseRatingRepo;
+import com.examly.springapp.repository.OrderRepo;
+
+/**
+ * In-memory bestseller and top-rated course rankings.
+ *
+ * Sales are counted in hourly buckets covering the longest window, with a running
+ * per-course total for each `Window`; when the clock passes an hour boundary the
+ * bucket that slid out of a window is subtracted from that window's totals. Ratings
+ * are kept as a per-course count and sum. Each ranking is the top `maxSize` courses,
+ * selected with a bounded min-heap and kept until the next change, so reading a
+ * leaderboard costs nothing per order. Order and review writes are applied once
+ * their transaction commits; everything is rebuilt from the database at startup,
+ * and orders committed or deleted while the sales are read are replayed onto the
+ * result, so the rebuilt ranking neither misses nor double-counts them.
+ *
+ * @author Shantanu
+ */
+@Component
+public class CourseLeaderboard {
+
+    /**
+     * Sliding windows the bestseller ranking is kept for.
+     */
+    public enum Window {
+        DAY(24), WEEK(24 * 7), MONTH(24 * 30);
+
+        private final int hours;
+
+        Window(int hours) {
+            this.hours = hours;
+        }
+    }
+
+    private static final long BUCKET_MILLIS = 3_600_000L;
+
+    private final OrderRepo orderRepo;
+    private final CourseRatingRepo courseRatingRepo;
+    private final int maxSize;
+    private final int minRatings;
+
+    // hour -> (courseId -> sales in that hour)
+    private final NavigableMap<Long, Map<Long, Long>> buckets = new TreeMap<>();
+    private final Map<Window, Map<Long, Long>> windowSales = new EnumMap<>(Window.class);
+    private final Map<Window, List<RankedCourse>> topSelling = new EnumMap<>(Window.class);
+    // courseId -> {rating count, rating sum}
+    private final Map<Long, long[]> ratings = new HashMap<>();
+    private List<RankedCourse> topRated;
+    private long currentHour;
+    // orders applied while a rebuild is reading, or null when none is running
+    private List<OrderChange> pending;
+
+    /**
+     * Constructor to inject the repositories and read the ranking limits.
+     *
+     * @param orderRepo        the repository used to load recent sales at startup.
+     * @param courseRatingRepo the repository used to load ratings at startup.
+     * @param maxSize          the number of places kept per ranking.
+     * @param minRatings       the number of ratings a course needs to be top-rated.
+     */
+    public CourseLeaderboard(OrderRepo orderRepo, CourseRatingRepo courseRatingRepo,
+            @Value("${leaderboard.max-size:100}") int maxSize,
+            @Value("${leaderboard.top-rated.min-ratings:3}") int minRatings) {
+        this.orderRepo = orderRepo;
+        this.courseRatingRepo = courseRatingRepo;
+        this.maxSize = maxSize;
+        this.minRatings = minRatings;
+        for (Window window : Window.values()) {
+            windowSales.put(window, new HashMap<>());
+        }
+        this.currentHour = System.currentTimeMillis() / BUCKET_MILLIS;
+    }
+
+    /**
+     * Builds both rankings from the database once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        beginRebuild();
+        long now = System.currentTimeMillis();
+        Date since = new Date((now / BUCKET_MILLIS - Window.MONTH.hours + 1) * BUCKET_MILLIS);
+        List<CourseSaleDTO> sales;
+        List<CourseRating> courseRatings;
+        try {
+            sales = orderRepo.findCourseSalesSince(since);
+            courseRatings = courseRatingRepo.findAll();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pending = null;
+            }
+            throw e;
+        }
+        rebuild(sales, courseRatings, now);
+    }
+
+    /**
+     * Starts recording the orders applied from now on, to be replayed onto the
+     * rankings built by the next `rebuild`.
+     */
+    synchronized void beginRebuild() {
+        pending = new ArrayList<>();
+    }
+
+    /**
+     * Replaces both rankings with the given sales and ratings, then replays the
+     * orders applied since `beginRebuild`. The changes of each order are summed
+     * first, so only the difference between its final state and whether the
+     * sales include it is applied.
+     *
+     * @param sales   every course sold within the longest window.
+     * @param ratings the rating aggregate of every course.
+     * @param now     the current time in milliseconds.
+     */
+    public synchronized void rebuild(List<CourseSaleDTO> sales, List<CourseRating> ratings, long now) {
+        buckets.clear();
+        windowSales.values().forEach(Map::clear);
+        this.ratings.clear();
+        currentHour = now / BUCKET_MILLIS;
+        Set<Long> counted = new HashSet<>();
+        for (CourseSaleDTO sale : sales) {
+            addSale(sale.getCourseId(), sale.getCreatedAt(), 1);
+            counted.add(sale.getOrderId());
+        }
+        if (pending != null) {
+            replay(counted);
+            pending = null;
+        }
+        for (CourseRating rating : ratings) {
+            if (rating.getRatingCount() > 0) {
+                this.ratings.put(rating.getCourseId(), new long[] { rating.getRatingCount(), rating.getRatingSum() });
+            }
+        }
+        topSelling.clear();
+        topRated = null;
+    }
+
+    /**
+     * Counts one sale of each course once the current transaction commits.
+     *
+     * @param orderId   the ID of the order.
+     * @param courseIds the courses in the order.
+     * @param createdAt the time the order was placed.
+     */
+    public void recordOrder(long orderId, List<Long> courseIds, Date createdAt) {
+        OrderChange change = new OrderChange(orderId, courseIds, createdAt, 1);
+        afterCommit(() -> applyOrder(change));
+    }
+
+    /**
+     * Takes back the sales of a deleted order once the current transaction commits.
+     *
+     * @param orderId   the ID of the order.
+     * @param courseIds the courses in the order.
+     * @param createdAt the time the order was placed, or null if unknown.
+     */
+    public void removeOrder(long orderId, List<Long> courseIds, Date createdAt) {
+        OrderChange change = new OrderChange(orderId, courseIds, createdAt, -1);
+        afterCommit(() -> applyOrder(change));
+    }
+
+    /**
+     * Counts one rating of a course once the current transaction commits.
+     *
+     * @param courseId the rated course.
+     * @param rating   the rating, from 1 to 5.
+     */
+    public void recordRating(long courseId, int rating) {
+        afterCommit(() -> applyRating(courseId, rating, 1));
+    }
+
+    /**
+     * Takes back one rating of a course once the current transaction commits.
+     *
+     * @param courseId the rated course.
+     * @param rating   the rating that was removed.
+     */
+    public void removeRating(long courseId, int rating) {
+        afterCommit(() -> applyRating(courseId, rating, -1));
+    }
+
+    /**
+     * Returns the best-selling courses in a window.
+     *
+     * @param window the window to rank sales in.
+     * @param limit  the maximum number of places, capped at the configured size.
+     * @return the ranked courses, best first; the score is the number of sales.
+     */
+    public synchronized List<RankedCourse> topSelling(Window window, int limit) {
+        advance(System.currentTimeMillis());
+        List<RankedCourse> top = topSelling.get(window);
+        if (top == null) {
+            PriorityQueue<RankedCourse> heap = new PriorityQueue<>(RankedCourse.BY_SCORE);
+            for (Map.Entry<Long, Long> entry : windowSales.get(window).entrySet()) {
+                RankedCourse.offer(heap, new RankedCourse(entry.getKey(), entry.getValue(), entry.getValue()),
+                        maxSize);
+            }
+            top = RankedCourse.drain(heap);
+            topSelling.put(window, top);
+        }
+        return top.subList(0, Math.min(Math.max(limit, 0), top.size()));
+    }
+
+    /**
+     * Returns the highest-rated courses with at least the configured number of ratings.
+     *
+     * @param limit the maximum number of places, capped at the configured size.
+     * @return the ranked courses, best first; the score is the average rating.
+     */
+    public synchronized List<RankedCourse> topRated(int limit) {
+        if (topRated == null) {
+            PriorityQueue<RankedCourse> heap = new PriorityQueue<>(RankedCourse.BY_SCORE);
+            for (Map.Entry<Long, long[]> entry : ratings.entrySet()) {
+                long count = entry.getValue()[0];
+                if (count >= minRatings) {
+                    double average = (double) entry.getValue()[1] / count;
+                    RankedCourse.offer(heap, new RankedCourse(entry.getKey(), average, count), maxSize);
+                }
+            }
+            topRated = RankedCourse.drain(heap);
+        }
+        return topRated.subList(0, Math.min(Math.max(limit, 0), topRated.size()));
+    }
+
+    private synchronized void applyOrder(OrderChange change) {
+        advance(System.currentTimeMillis());
+        addSales(change.courseIds, change.createdAt, change.delta);
+        if (pending != null) {
+            pending.add(change);
+        }
+        topSelling.clear();
+    }
+
+    /**
+     * Applies the net change of each order in `pending` that the rebuild did not
+     * already reflect.
+     */
+    private void replay(Set<Long> counted) {
+        Map<Long, NetChange> byOrder = new HashMap<>();
+        for (OrderChange change : pending) {
+            // an order whose first change is a deletion existed before the rebuild started
+            NetChange net = byOrder.computeIfAbsent(change.orderId,
+                    id -> new NetChange(change.courseIds, change.delta < 0 ? 1 : 0));
+            net.net += change.delta;
+            if (net.createdAt == null) {
+                net.createdAt = change.createdAt;
+            }
+        }
+        for (Map.Entry<Long, NetChange> entry : byOrder.entrySet()) {
+            NetChange change = entry.getValue();
+            long read = counted.contains(entry.getKey()) ? 1 : 0;
+            long present = Math.max(0, Math.min(1, change.before + change.net));
+            if (present != read) {
+                addSales(change.courseIds, change.createdAt, present - read);
+            }
+        }
+    }
+
+    private void addSales(List<Long> courseIds, Date createdAt, long delta) {
+        for (Long courseId : courseIds) {
+            addSale(courseId, createdAt, delta);
+        }
+    }
+
+    private synchronized void applyRating(long courseId, int rating, long delta) {
+        long[] aggregate = ratings.computeIfAbsent(courseId, id -> new long[2]);
+        aggregate[0] += delta;
+        aggregate[1] += delta * rating;
+        if (aggregate[0] <= 0) {
+            ratings.remove(courseId);
+        }
+        topRated = null;
+    }
+
+    private void addSale(long courseId, Date createdAt, long delta) {
+        if (createdAt == null) {
+            return;
+        }
+        long hour = createdAt.getTime() / BUCKET_MILLIS;
+        if (hour <= currentHour - Window.MONTH.hours) {
+            return;
+        }
+        Map<Long, Long> bucket = buckets.computeIfAbsent(hour, h -> new HashMap<>());
+        add(bucket, courseId, delta);
+        for (Window window : Window.values()) {
+            if (hour > currentHour - window.hours) {
+                add(windowSales.get(window), courseId, delta);
+            }
+        }
+    }
+
+    /**
+     * Moves the clock to `now`, subtracting every bucket that slid out of a window.
+     */
+    private void advance(long now) {
+        long hour = now / BUCKET_MILLIS;
+        if (hour <= currentHour) {
+            return;
+        }
+        for (Window window : Window.values()) {
+            Map<Long, Long> totals = windowSales.get(window);
+            // buckets in (currentHour - hours, hour - hours] have just left this window
+            for (Map<Long, Long> expired : buckets.subMap(currentHour - window.hours, false,
+                    hour - window.hours, true).values()) {
+                for (Map.Entry<Long, Long> entry : expired.entrySet()) {
+                    add(totals, entry.getKey(), -entry.getValue());
+                }
+            }
+        }
+        buckets.headMap(hour - Window.MONTH.hours, true).clear();
+        currentHour = hour;
+        topSelling.clear();
+    }
+
+    private static void add(Map<Long, Long> totals, long courseId, long delta) {
+        long total = totals.getOrDefault(courseId, 0L) + delta;
+        if (total > 0) {
+            totals.put(courseId, total);
+        } else {
+            totals.remove(courseId);
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * The changes to one order applied during a rebuild: whether it existed
+     * before the first of them, and their sum.
+     */
+    private static final class NetChange {
+        private final List<Long> courseIds;
+        private final int before;
+        private int net;
+        private Date createdAt;
+
+        NetChange(List<Long> courseIds, int before) {
+            this.courseIds = courseIds;
+            this.before = before;
+        }
+    }
+
+    /**
+     * An order added (`delta` 1) or deleted (`delta` -1).
+     */
+    private static final class OrderChange {
+        private final long orderId;
+        private final List<Long> courseIds;
+        private final Date createdAt;
+        private final int delta;
+
+        OrderChange(long orderId, List<Long> courseIds, Date createdAt, int delta) {
+            this.orderId = orderId;
+            this.courseIds = courseIds;
+            this.createdAt = createdAt;
+            this.delta = delta;
+        }
+    }
+}
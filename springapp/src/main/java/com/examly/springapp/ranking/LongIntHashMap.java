@@ -0,0 +1,199 @@
+package com.examly.springapp.ranking;
+
+/**
+ * Open-addressing hash map from `long` keys to `int` counts, with no boxing.
+ *
+ * Keys are placed by linear probing in power-of-two arrays kept at most half
+ * full. A count that drops to zero removes its key, and removal shifts the
+ * following entries back so lookups never need tombstones. Key 0 is held
+ * outside the arrays because 0 marks a free slot. Not thread-safe.
+ *
+ * @author Shantanu
+ */
+public final class LongIntHashMap {
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    /**
+     * Creates an empty map.
+     */
+    public LongIntHashMap() {
+        this(8);
+    }
+
+    /**
+     * Creates an empty map sized for the given number of keys.
+     *
+     * @param expectedSize the number of keys expected.
+     */
+    public LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Returns the count of a key.
+     *
+     * @param key the key.
+     * @return the count, or 0 if the key is absent.
+     */
+    public int get(long key) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : 0;
+        }
+        for (int slot = slot(key);; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == 0) {
+                return 0;
+            }
+            if (current == key) {
+                return values[slot];
+            }
+        }
+    }
+
+    /**
+     * Adds to the count of a key, removing the key if the count becomes 0.
+     *
+     * @param key   the key.
+     * @param delta the amount to add, which may be negative.
+     * @return the new count.
+     */
+    public int addTo(long key, int delta) {
+        if (key == 0) {
+            zeroValue += delta;
+            if (zeroValue == 0) {
+                if (hasZeroKey) {
+                    hasZeroKey = false;
+                    size--;
+                }
+            } else if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return zeroValue;
+        }
+        int slot = slot(key);
+        for (;; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                int value = values[slot] + delta;
+                if (value == 0) {
+                    size--;
+                    shiftKeys(slot);
+                } else {
+                    values[slot] = value;
+                }
+                return value;
+            }
+            if (current == 0) {
+                break;
+            }
+        }
+        if (delta != 0) {
+            keys[slot] = key;
+            values[slot] = delta;
+            if (++size > (mask + 1) / 2) {
+                rehash((mask + 1) * 2);
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Adds every count of another map to this one.
+     *
+     * @param other the map whose counts are added.
+     */
+    public void addAll(LongIntHashMap other) {
+        other.forEach(this::addTo);
+    }
+
+    /**
+     * Returns the number of keys with a non-zero count.
+     *
+     * @return the number of keys.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Passes every key and its count to the consumer, in no particular order.
+     *
+     * @param consumer the consumer of each entry.
+     */
+    public void forEach(EntryConsumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(0, zeroValue);
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                consumer.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * Frees a slot, moving back any later entry of the same probe run that would
+     * otherwise become unreachable.
+     */
+    private void shiftKeys(int free) {
+        int slot = free;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long current = keys[slot];
+            if (current == 0) {
+                keys[free] = 0;
+                values[free] = 0;
+                return;
+            }
+            int home = slot(current);
+            // the entry may move back only if its home slot is not between the free slot and itself
+            if (free <= slot ? free >= home || home > slot : free >= home && home > slot) {
+                keys[free] = current;
+                values[free] = values[slot];
+                free = slot;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int slot = slot(key);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Receives one entry of a `LongIntHashMap`.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, int value);
+    }
+}
@@ -0,0 +1,214 @@
+package com.examly.springapp.ranking;
+
+import java.util.function.LongFunction;
+
+/**
+ * Open-addressing hash map from `long` keys to objects, with no boxing.
+ *
+ * Uses the same layout as `LongIntHashMap`: linear probing in power-of-two
+ * arrays kept at most half full, backward-shift removal, and key 0 held
+ * outside the arrays. Not thread-safe.
+ *
+ * @param <V> the type of the values.
+ *
+ * @author Shantanu
+ */
+public final class LongObjectHashMap<V> {
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private V zeroValue;
+
+    /**
+     * Creates an empty map.
+     */
+    public LongObjectHashMap() {
+        this(8);
+    }
+
+    /**
+     * Creates an empty map sized for the given number of keys.
+     *
+     * @param expectedSize the number of keys expected.
+     */
+    public LongObjectHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key the key.
+     * @return the value, or null if the key is absent.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == 0) {
+            return zeroValue;
+        }
+        for (int slot = slot(key);; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == 0) {
+                return null;
+            }
+            if (current == key) {
+                return (V) values[slot];
+            }
+        }
+    }
+
+    /**
+     * Returns the value of a key, first storing the value made by the factory if
+     * the key is absent.
+     *
+     * @param key     the key.
+     * @param factory makes the value of an absent key.
+     * @return the existing or new value.
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(long key, LongFunction<V> factory) {
+        if (key == 0) {
+            if (zeroValue == null) {
+                zeroValue = factory.apply(key);
+                size++;
+            }
+            return zeroValue;
+        }
+        int slot = slot(key);
+        for (;; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                return (V) values[slot];
+            }
+            if (current == 0) {
+                break;
+            }
+        }
+        V value = factory.apply(key);
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > (mask + 1) / 2) {
+            rehash((mask + 1) * 2);
+        }
+        return value;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key the key.
+     * @return the removed value, or null if the key was absent.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == 0) {
+            V removed = zeroValue;
+            if (removed != null) {
+                zeroValue = null;
+                size--;
+            }
+            return removed;
+        }
+        for (int slot = slot(key);; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == 0) {
+                return null;
+            }
+            if (current == key) {
+                V removed = (V) values[slot];
+                size--;
+                shiftKeys(slot);
+                return removed;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of keys.
+     *
+     * @return the number of keys.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Passes every key and its value to the consumer, in no particular order.
+     *
+     * @param consumer the consumer of each entry.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<V> consumer) {
+        if (zeroValue != null) {
+            consumer.accept(0, zeroValue);
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                consumer.accept(keys[slot], (V) values[slot]);
+            }
+        }
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * Frees a slot, moving back any later entry of the same probe run that would
+     * otherwise become unreachable.
+     */
+    private void shiftKeys(int free) {
+        int slot = free;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long current = keys[slot];
+            if (current == 0) {
+                keys[free] = 0;
+                values[free] = null;
+                return;
+            }
+            int home = slot(current);
+            // the entry may move back only if its home slot is not between the free slot and itself
+            if (free <= slot ? free >= home || home > slot : free >= home && home > slot) {
+                keys[free] = current;
+                values[free] = values[slot];
+                free = slot;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int slot = slot(key);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Receives one entry of a `LongObjectHashMap`.
+     *
+     * @param <V> the type of the values.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+}
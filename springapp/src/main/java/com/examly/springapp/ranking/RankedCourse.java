@@ -0,0 +1,70 @@
+package com.examly.springapp.ranking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * One course on a ranking, with the score it is ranked by and the number of
+ * events behind that score.
+ *
+ * @author Shantanu
+ */
+public final class RankedCourse {
+
+    /**
+     * Orders by score, then count, then the lower course ID, so that the greatest
+     * element is the best place and ties are broken the same way every time.
+     */
+    static final Comparator<RankedCourse> BY_SCORE = Comparator.comparingDouble((RankedCourse r) -> r.score)
+            .thenComparingLong(r -> r.count).thenComparingLong(r -> -r.courseId);
+
+    private final long courseId;
+    private final double score;
+    private final long count;
+
+    RankedCourse(long courseId, double score, long count) {
+        this.courseId = courseId;
+        this.score = score;
+        this.count = count;
+    }
+
+    public long getCourseId() {
+        return courseId;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Adds a course to a min-heap holding at most `maxSize` places, dropping the
+     * worst place if the heap is full and the course beats it.
+     */
+    static void offer(PriorityQueue<RankedCourse> heap, RankedCourse ranked, int maxSize) {
+        if (heap.size() < maxSize) {
+            heap.add(ranked);
+        } else if (maxSize > 0 && BY_SCORE.compare(ranked, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(ranked);
+        }
+    }
+
+    /**
+     * Empties a heap filled by `offer` into an unmodifiable list, best first.
+     */
+    static List<RankedCourse> drain(PriorityQueue<RankedCourse> heap) {
+        List<RankedCourse> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll());
+        }
+        Collections.reverse(ranked);
+        return Collections.unmodifiableList(ranked);
+    }
+}
@@ -1,11 +1,20 @@
 package com.examly.springapp.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.examly.springapp.config.SecondLevelCacheConfig;
 import com.examly.springapp.model.Cart;
+import com.examly.springapp.model.CartSummaryDTO;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * @author Aluri Charan
@@ -16,11 +25,26 @@ import com.examly.springapp.model.Cart;
 public interface CartRepo extends JpaRepository<Cart, Long> {
 
     /**
-     * Finds the cart associated with the specified user ID.
+     * Finds all carts, fetching their courses, customer and user in the same query.
+     *
+     * @return a list of all `Cart` entities.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"courses", "customer", "customer.user"})
+    List<Cart> findAll();
+
+    /**
+     * Finds the cart associated with the specified user ID. The result is kept in
+     * the query cache until the cart, its courses or its owner change.
      *
      * @param userId the ID of the user.
      * @return an Optional containing the `Cart` entity if found, or an empty Optional if not.
      */
+    @EntityGraph(attributePaths = {"courses", "customer", "customer.user"})
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.CART_BY_USER)
+    })
     @Query("SELECT c FROM Cart c JOIN c.customer cu WHERE cu.user.id = :userId")
     Optional<Cart> findByUserId(long userId);
 
@@ -30,6 +54,126 @@ public interface CartRepo extends JpaRepository<Cart, Long> {
      * @param customerId the ID of the customer.
      * @return an Optional containing the `Cart` entity if found, or an empty Optional if not.
      */
+    @EntityGraph(attributePaths = {"courses", "customer", "customer.user"})
     @Query("SELECT c FROM Cart c WHERE c.customer.customerId = :customerId")
     Optional<Cart> findByCustomerId(long customerId);
+
+    /**
+     * Finds the owner, course count and total of every cart.
+     *
+     * @return one `CartSummaryDTO` per cart.
+     */
+    @Query("SELECT new com.examly.springapp.model.CartSummaryDTO(c.cartId, cu.customerName, u.email, size(c.courses), c.totalAmount)"
+            + " FROM Cart c JOIN c.customer cu JOIN cu.user u")
+    List<CartSummaryDTO> findCartSummaries();
+
+    /**
+     * Finds the ID of the cart owned by the specified customer.
+     *
+     * @param customerId the ID of the customer.
+     * @return an Optional containing the cart ID, or an empty Optional if the customer has no cart.
+     */
+    @Query("SELECT c.cartId FROM Cart c WHERE c.customer.customerId = :customerId")
+    Optional<Long> findCartIdByCustomerId(long customerId);
+
+    /**
+     * Inserts a single `cart_course` row, unless the course is already in the cart
+     * or does not exist.
+     *
+     * @param cartId   the ID of the cart.
+     * @param courseId the ID of the course to add.
+     * @return the number of rows inserted, 0 or 1.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cart_course"))
+    @Query(value = "INSERT INTO cart_course (cart_id, course_id) SELECT :cartId, c.course_id FROM courses c"
+            + " WHERE c.course_id = :courseId AND NOT EXISTS"
+            + " (SELECT 1 FROM cart_course cc WHERE cc.cart_id = :cartId AND cc.course_id = :courseId)",
+            nativeQuery = true)
+    int insertCourse(long cartId, long courseId);
+
+    /**
+     * Deletes the `cart_course` row linking a course to a cart.
+     *
+     * @param cartId   the ID of the cart.
+     * @param courseId the ID of the course to remove.
+     * @return the number of rows deleted.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cart_course"))
+    @Query(value = "DELETE FROM cart_course WHERE cart_id = :cartId AND course_id = :courseId", nativeQuery = true)
+    int deleteCourse(long cartId, long courseId);
+
+    /**
+     * Finds the stored total of the specified cart.
+     *
+     * @param cartId the ID of the cart.
+     * @return the total amount for the items in the cart.
+     */
+    @Query("SELECT c.totalAmount FROM Cart c WHERE c.cartId = :cartId")
+    double findTotalAmount(long cartId);
+
+    /**
+     * Adds the current price of a course to a cart total.
+     *
+     * @param cartId   the ID of the cart.
+     * @param courseId the ID of the course that was added.
+     * @return the number of carts updated.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "carts"))
+    @Query(value = "UPDATE carts SET version = version + 1, total_amount = ROUND(total_amount"
+            + " + (SELECT c.course_price FROM courses c WHERE c.course_id = :courseId), 2) WHERE cart_id = :cartId",
+            nativeQuery = true)
+    int addToTotal(long cartId, long courseId);
+
+    /**
+     * Subtracts the current price of a course from a cart total.
+     *
+     * @param cartId   the ID of the cart.
+     * @param courseId the ID of the course that was removed.
+     * @return the number of carts updated.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "carts"))
+    @Query(value = "UPDATE carts SET version = version + 1, total_amount = ROUND(total_amount"
+            + " - (SELECT c.course_price FROM courses c WHERE c.course_id = :courseId), 2) WHERE cart_id = :cartId",
+            nativeQuery = true)
+    int subtractFromTotal(long cartId, long courseId);
+
+    /**
+     * Recomputes the total of every cart that contains the specified course,
+     * e.g. after the course price changed.
+     *
+     * @param courseId the ID of the repriced course.
+     * @return the number of carts updated.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "carts"))
+    @Query(value = "UPDATE carts SET version = version + 1, total_amount = (SELECT COALESCE(SUM(c.course_price), 0)"
+            + " FROM cart_course cc JOIN courses c ON c.course_id = cc.course_id WHERE cc.cart_id = carts.cart_id)"
+            + " WHERE cart_id IN (SELECT cc.cart_id FROM cart_course cc WHERE cc.course_id = :courseId)",
+            nativeQuery = true)
+    int repriceCartsContaining(long courseId);
+
+    /**
+     * Deletes every `cart_course` row of a cart.
+     *
+     * @param cartId the ID of the cart.
+     * @return the number of rows deleted.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cart_course"))
+    @Query(value = "DELETE FROM cart_course WHERE cart_id = :cartId", nativeQuery = true)
+    int deleteAllCourses(long cartId);
+
+    /**
+     * Resets a cart total to zero after its courses were removed.
+     *
+     * @param cartId the ID of the cart.
+     * @return the number of carts updated.
+     */
+    @Modifying
+    @Query("UPDATE Cart c SET c.totalAmount = 0, c.version = c.version + 1 WHERE c.cartId = :cartId")
+    int clearTotal(long cartId);
 }
@@ -0,0 +1,51 @@
+package com.examly.springapp.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.examly.springapp.model.CourseRating;
+
+/**
+ * @author Priyanjali
+ * Repository interface for managing `CourseRating` entity operations.
+ *
+ * Ratings are adjusted with single UPDATE statements, so concurrent reviews of
+ * the same course never overwrite each other's counts.
+ */
+public interface CourseRatingRepo extends JpaRepository<CourseRating, Long> {
+
+    /**
+     * Adds one rating to the aggregate of a course.
+     *
+     * @param courseId the ID of the rated course.
+     * @param rating   the rating, from 1 to 5.
+     * @return the number of aggregates updated, 0 if the course has none.
+     */
+    @Modifying
+    @Query("UPDATE CourseRating r SET r.ratingCount = r.ratingCount + 1, r.ratingSum = r.ratingSum + :rating,"
+            + " r.stars1 = r.stars1 + CASE WHEN :rating = 1 THEN 1 ELSE 0 END,"
+            + " r.stars2 = r.stars2 + CASE WHEN :rating = 2 THEN 1 ELSE 0 END,"
+            + " r.stars3 = r.stars3 + CASE WHEN :rating = 3 THEN 1 ELSE 0 END,"
+            + " r.stars4 = r.stars4 + CASE WHEN :rating = 4 THEN 1 ELSE 0 END,"
+            + " r.stars5 = r.stars5 + CASE WHEN :rating = 5 THEN 1 ELSE 0 END"
+            + " WHERE r.courseId = :courseId")
+    int addRating(long courseId, int rating);
+
+    /**
+     * Removes one rating from the aggregate of a course.
+     *
+     * @param courseId the ID of the rated course.
+     * @param rating   the rating that was removed, from 1 to 5.
+     * @return the number of aggregates updated, 0 if the course has none.
+     */
+    @Modifying
+    @Query("UPDATE CourseRating r SET r.ratingCount = r.ratingCount - 1, r.ratingSum = r.ratingSum - :rating,"
+            + " r.stars1 = r.stars1 - CASE WHEN :rating = 1 THEN 1 ELSE 0 END,"
+            + " r.stars2 = r.stars2 - CASE WHEN :rating = 2 THEN 1 ELSE 0 END,"
+            + " r.stars3 = r.stars3 - CASE WHEN :rating = 3 THEN 1 ELSE 0 END,"
+            + " r.stars4 = r.stars4 - CASE WHEN :rating = 4 THEN 1 ELSE 0 END,"
+            + " r.stars5 = r.stars5 - CASE WHEN :rating = 5 THEN 1 ELSE 0 END"
+            + " WHERE r.courseId = :courseId")
+    int removeRating(long courseId, int rating);
+}
@@ -1,6 +1,9 @@
 package com.examly.springapp.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.examly.springapp.model.Course;
 
@@ -12,4 +15,67 @@ import com.examly.springapp.model.Course;
  */
 public interface CourseRepo extends JpaRepository<Course, Long> {
 
+    String FILTERS = "(:courseType IS NULL OR c.courseType = :courseType)"
+            + " AND (:minPrice IS NULL OR c.coursePrice >= :minPrice)"
+            + " AND (:maxPrice IS NULL OR c.coursePrice <= :maxPrice)";
+
+    /**
+     * Finds one page of courses matching the optional filters, without a count query.
+     *
+     * @param courseType the course type to match, or null for any.
+     * @param minPrice   the lowest price to include, or null for no lower bound.
+     * @param maxPrice   the highest price to include, or null for no upper bound.
+     * @param pageable   the page, size and sort order.
+     * @return a slice of matching `Course` entities.
+     */
+    @Query("SELECT c FROM Course c WHERE " + FILTERS)
+    Slice<Course> findFiltered(String courseType, Double minPrice, Double maxPrice, Pageable pageable);
+
+    /**
+     * Finds the courses ordered by (price, ID) that come after the given position.
+     * Seeks on the index instead of skipping rows, so deep pages cost the same as the first.
+     *
+     * @param courseType the course type to match, or null for any.
+     * @param minPrice   the lowest price to include, or null for no lower bound.
+     * @param maxPrice   the highest price to include, or null for no upper bound.
+     * @param afterPrice the price of the last course already returned.
+     * @param afterId    the ID of the last course already returned.
+     * @param pageable   the page size; the page number must be 0.
+     * @return a slice of matching `Course` entities.
+     */
+    @Query("SELECT c FROM Course c WHERE " + FILTERS
+            + " AND (c.coursePrice > :afterPrice OR (c.coursePrice = :afterPrice AND c.courseId > :afterId))"
+            + " ORDER BY c.coursePrice, c.courseId")
+    Slice<Course> findAfterPrice(String courseType, Double minPrice, Double maxPrice,
+            double afterPrice, long afterId, Pageable pageable);
+
+    /**
+     * Finds the courses ordered by (type, ID) that come after the given position.
+     *
+     * @param courseType the course type to match, or null for any.
+     * @param minPrice   the lowest price to include, or null for no lower bound.
+     * @param maxPrice   the highest price to include, or null for no upper bound.
+     * @param afterType  the type of the last course already returned.
+     * @param afterId    the ID of the last course already returned.
+     * @param pageable   the page size; the page number must be 0.
+     * @return a slice of matching `Course` entities.
+     */
+    @Query("SELECT c FROM Course c WHERE " + FILTERS
+            + " AND (c.courseType > :afterType OR (c.courseType = :afterType AND c.courseId > :afterId))"
+            + " ORDER BY c.courseType, c.courseId")
+    Slice<Course> findAfterType(String courseType, Double minPrice, Double maxPrice,
+            String afterType, long afterId, Pageable pageable);
+
+    /**
+     * Finds the courses ordered by ID that come after the given ID.
+     *
+     * @param courseType the course type to match, or null for any.
+     * @param minPrice   the lowest price to include, or null for no lower bound.
+     * @param maxPrice   the highest price to include, or null for no upper bound.
+     * @param afterId    the ID of the last course already returned.
+     * @param pageable   the page size; the page number must be 0.
+     * @return a slice of matching `Course` entities.
+     */
+    @Query("SELECT c FROM Course c WHERE " + FILTERS + " AND c.courseId > :afterId ORDER BY c.courseId")
+    Slice<Course> findAfterId(String courseType, Double minPrice, Double maxPrice, long afterId, Pageable pageable);
 }
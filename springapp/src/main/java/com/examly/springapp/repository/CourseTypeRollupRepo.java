@@ -0,0 +1,51 @@
+package com.examly.springapp.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.examly.springapp.model.CourseTypeRollup;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * @author Shantanu
+ * Repository interface for managing `CourseTypeRollup` entity operations.
+ */
+public interface CourseTypeRollupRepo extends JpaRepository<CourseTypeRollup, CourseTypeRollup.Key> {
+
+    /**
+     * Adds the lines of an order, at the price and type they were sold at, to the
+     * rollups of a day and status, one upsert per course type.
+     *
+     * @param salesDate the day the order was placed.
+     * @param status    the status to add the lines to.
+     * @param orderId   the ID of the order.
+     * @param sign      1 to add the lines, -1 to take them away.
+     * @return the number of rows affected.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "course_type_rollups"))
+    @Query(value = "INSERT INTO course_type_rollups (sales_date, status, course_type, sales, revenue)"
+            + " SELECT :salesDate, :status, line_type, :sign * line_sales, :sign * line_revenue"
+            + " FROM (SELECT COALESCE(course_type, '') AS line_type, COUNT(*) AS line_sales,"
+            + " COALESCE(SUM(unit_price), 0) AS line_revenue FROM order_course WHERE order_id = :orderId"
+            + " GROUP BY COALESCE(course_type, '')) AS order_lines"
+            + " ON DUPLICATE KEY UPDATE sales = sales + :sign * line_sales, revenue = revenue + :sign * line_revenue",
+            nativeQuery = true)
+    int addOrderLines(LocalDate salesDate, String status, long orderId, int sign);
+
+    /**
+     * Finds the rollups of every day in a range.
+     *
+     * @param from the first day, inclusive.
+     * @param to   the last day, inclusive.
+     * @return one rollup per day, status and course type with sales.
+     */
+    List<CourseTypeRollup> findBySalesDateBetween(LocalDate from, LocalDate to);
+}
@@ -2,11 +2,16 @@ package com.examly.springapp.repository;
 
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.examly.springapp.config.SecondLevelCacheConfig;
 import com.examly.springapp.model.Customer;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * @author Srikanth Moparthi
  * Repository interface for managing `Customer` entity operations.
@@ -16,11 +21,16 @@ import com.examly.springapp.model.Customer;
 public interface CustomerRepo extends JpaRepository<Customer, Long> {
 
     /**
-     * Finds the customer associated with the specified user ID.
+     * Finds the customer associated with the specified user ID. The result is kept
+     * in the query cache until the customer or user tables change.
      *
      * @param userId the ID of the user.
      * @return the `Customer` entity associated with the user ID.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.CUSTOMER_BY_USER)
+    })
     @Query("SELECT c FROM Customer c WHERE c.user.userId = :userId")
     Optional<Customer> getCustomerByUserId(long userId);
 
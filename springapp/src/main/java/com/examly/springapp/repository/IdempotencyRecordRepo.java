@@ -0,0 +1,30 @@
+package com.examly.springapp.repository;
+
+import java.util.Date;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.examly.springapp.model.IdempotencyRecord;
+
+/**
+ * @author Shantanu
+ * Repository interface for managing `IdempotencyRecord` entity operations.
+ * 
+ * Extends `JpaRepository` to inherit basic CRUD and JPA-specific operations.
+ */
+public interface IdempotencyRecordRepo extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Deletes every stored response created before the given date.
+     *
+     * @param cutoff the oldest creation date to keep.
+     * @return the number of records deleted.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :cutoff")
+    int deleteCreatedBefore(Date cutoff);
+}
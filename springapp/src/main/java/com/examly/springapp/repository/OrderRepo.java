@@ -1,11 +1,23 @@
 package com.examly.springapp.repository;
 
+import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import com.examly.springapp.model.CourseSaleDTO;
+import com.examly.springapp.model.OrderCourseDTO;
+import com.examly.springapp.model.OrderStatusCountDTO;
+import com.examly.springapp.model.OrderSummaryDTO;
 import com.examly.springapp.model.Orders;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * @author Shantanu
  * Repository interface for managing `Orders` entity operations.
@@ -14,14 +26,95 @@ import com.examly.springapp.model.Orders;
  */
 public interface OrderRepo extends JpaRepository<Orders, Long> {   
 
+    /**
+     * Number of rows the JDBC driver fetches per round trip while streaming.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * Finds all orders, fetching their courses, customer and user in the same query.
+     *
+     * @return a list of all `Orders` entities.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"courses", "customer", "customer.user"})
+    List<Orders> findAll();
+
     /**
      * Finds the order associated with the specified customer ID.
      *
      * @param customerId the ID of the customer.
      * @return the `Orders` entity associated with the customer ID.
      */
+    @EntityGraph(attributePaths = {"courses", "customer", "customer.user"})
     @Query("select o from Orders o where o.customer.customerId =?1")
     public List<Orders> findByCustomerId(long customerId);  
-    
-    List<Orders> findByStatus(String status);
-}
\ No newline at end of file
+
+    /**
+     * Counts the orders and adds up their prices per status. Reads only the
+     * `(status, order_price)` index.
+     *
+     * @return one `OrderStatusCountDTO` per status with orders.
+     */
+    @Query("select new com.examly.springapp.model.OrderStatusCountDTO(o.status, count(o), coalesce(sum(o.orderPrice), 0))"
+            + " from Orders o group by o.status order by o.status")
+    List<OrderStatusCountDTO> countByStatus();
+
+    /**
+     * Finds the order, customer name and email columns of every order.
+     *
+     * @return one `OrderSummaryDTO` per order, without course lines.
+     */
+    @Query("select new com.examly.springapp.model.OrderSummaryDTO(o.orderId, o.orderPrice, o.status, cu.customerName, u.email)"
+            + " from Orders o join o.customer cu join cu.user u order by o.orderId")
+    List<OrderSummaryDTO> findOrderSummaries();
+
+    /**
+     * Finds the course columns of every order line.
+     *
+     * @return one `OrderCourseDTO` per order and course.
+     */
+    @Query("select new com.examly.springapp.model.OrderCourseDTO(o.orderId, c.courseId, c.courseType, c.courseDetails, c.coursePrice)"
+            + " from Orders o join o.courses c order by o.orderId")
+    List<OrderCourseDTO> findOrderCourseLines();
+
+    /**
+     * Streams every order with its courses, customer and user, ordered by order ID.
+     * Rows are read from an open cursor {@value #STREAM_FETCH_SIZE} at a time, so the
+     * caller must consume the stream inside a transaction and close it afterwards.
+     *
+     * @return a stream of `Orders` entities.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o from Orders o join fetch o.customer cu join fetch cu.user left join fetch o.courses order by o.orderId")
+    Stream<Orders> streamAll();
+
+    /**
+     * Finds every course sold in an order placed at or after the given time.
+     *
+     * @param since the earliest order time to include.
+     * @return one `CourseSaleDTO` per order and course.
+     */
+    @Query("select new com.examly.springapp.model.CourseSaleDTO(o.orderId, c.courseId, o.createdAt)"
+            + " from Orders o join o.courses c where o.createdAt >= ?1")
+    List<CourseSaleDTO> findCourseSalesSince(Date since);
+
+    /**
+     * Records the current price and type of each course on the lines of an order,
+     * as the price and type the course was sold at.
+     *
+     * @param orderId the ID of the order, with its lines already flushed.
+     * @return the number of lines updated.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "order_course"))
+    @Query(value = "UPDATE order_course SET"
+            + " unit_price = (SELECT c.course_price FROM courses c WHERE c.course_id = order_course.course_id),"
+            + " course_type = (SELECT c.course_type FROM courses c WHERE c.course_id = order_course.course_id)"
+            + " WHERE order_id = ?1",
+            nativeQuery = true)
+    int recordLinePrices(long orderId);
+}
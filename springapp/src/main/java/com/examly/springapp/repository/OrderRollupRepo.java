@@ -0,0 +1,50 @@
+package com.examly.springapp.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.examly.springapp.model.OrderRollup;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * @author Shantanu
+ * Repository interface for managing `OrderRollup` entity operations.
+ *
+ * Rollups are adjusted with a single upsert, so concurrent orders on the same
+ * day never overwrite each other's counts.
+ */
+public interface OrderRollupRepo extends JpaRepository<OrderRollup, OrderRollup.Key> {
+
+    /**
+     * Adds orders to the rollup of a day and status, creating it if needed.
+     *
+     * @param salesDate the day the orders were placed.
+     * @param status    the status of the orders.
+     * @param orders    the number of orders to add, negative to take away.
+     * @param revenue   the order prices to add, negative to take away.
+     * @return the number of rows affected.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "order_rollups"))
+    @Query(value = "INSERT INTO order_rollups (sales_date, status, order_count, revenue)"
+            + " VALUES (:salesDate, :status, :orders, :revenue)"
+            + " ON DUPLICATE KEY UPDATE order_count = order_count + :orders, revenue = revenue + :revenue",
+            nativeQuery = true)
+    int addOrders(LocalDate salesDate, String status, long orders, double revenue);
+
+    /**
+     * Finds the rollups of every day in a range.
+     *
+     * @param from the first day, inclusive.
+     * @param to   the last day, inclusive.
+     * @return one rollup per day and status with orders.
+     */
+    List<OrderRollup> findBySalesDateBetween(LocalDate from, LocalDate to);
+}
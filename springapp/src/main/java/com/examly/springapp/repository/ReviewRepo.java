@@ -2,10 +2,13 @@ package com.examly.springapp.repository;
 
 import java.util.List;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import com.examly.springapp.model.Review;
+import com.examly.springapp.model.ReviewSummaryDTO;
 
 /**
  * @author Priyanjali
@@ -14,6 +17,15 @@ import com.examly.springapp.model.Review;
  * Extends `JpaRepository` to inherit basic CRUD and JPA-specific operations.
  */
 public interface ReviewRepo extends JpaRepository<Review, Long> {
+
+    /**
+     * Finds all reviews, fetching their customer, user and course in the same query.
+     *
+     * @return a list of all `Review` entities.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"customer", "customer.user", "course"})
+    List<Review> findAll();
     
     /**
      * Finds all reviews associated with the specified user ID.
@@ -21,6 +33,36 @@ public interface ReviewRepo extends JpaRepository<Review, Long> {
      * @param userId the ID of the user.
      * @return a list of `Review` entities associated with the user ID.
      */
+    @EntityGraph(attributePaths = {"customer", "customer.user", "course"})
     @Query("select r from Review r where r.customer.user.userId =?1")
     List<Review> findByUserId(long userId);
+
+    /**
+     * Finds the columns shown in the admin review table for every review.
+     *
+     * @return one `ReviewSummaryDTO` per review.
+     */
+    @Query("select new com.examly.springapp.model.ReviewSummaryDTO(r.reviewId, cu.customerName, r.subject, r.body, r.rating, r.dateCreated)"
+            + " from Review r join r.customer cu")
+    List<ReviewSummaryDTO> findReviewSummaries();
+
+    /**
+     * Finds all reviews of the specified course, fetching their customer, user and course in the same query.
+     *
+     * @param courseId the ID of the course.
+     * @return a list of `Review` entities for the course.
+     */
+    @EntityGraph(attributePaths = {"customer", "customer.user", "course"})
+    @Query("select r from Review r where r.course.courseId = ?1")
+    List<Review> findByCourseId(long courseId);
+
+    /**
+     * Deletes a review by its ID in a single statement.
+     *
+     * @param reviewId the ID of the review.
+     * @return the number of reviews deleted, 0 if it was already gone.
+     */
+    @Modifying
+    @Query("delete from Review r where r.reviewId = ?1")
+    int deleteReview(long reviewId);
 }
@@ -0,0 +1,92 @@
+package com.examly.springapp.repository.migration;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import com.examly.springapp.service.serviceimpl.SalesAnalyticsServiceImpl;
+
+/**
+ * Fills the sales rollups created by V5 from the orders placed so far.
+ *
+ * Runs in Java rather than SQL so that each order falls on the day
+ * `SalesAnalyticsServiceImpl` puts it on when it is written, in the configured
+ * `analytics.sales.zone`; MySQL's `date(created_at)` would use whatever zone
+ * the stored date-time happens to be in. Orders without `created_at` are not
+ * rolled up. Registered with Flyway as a Spring bean.
+ *
+ * @author Shantanu
+ */
+@Component
+public class V5_1__BackfillSalesRollups extends BaseJavaMigration {
+
+    private static final String SELECT_ORDERS = "SELECT created_at, COALESCE(status, ''), order_price"
+            + " FROM orders WHERE created_at IS NOT NULL";
+    private static final String SELECT_LINES = "SELECT o.created_at, COALESCE(o.status, ''),"
+            + " COALESCE(oc.course_type, ''), COALESCE(oc.unit_price, 0)"
+            + " FROM orders o JOIN order_course oc ON oc.order_id = o.order_id WHERE o.created_at IS NOT NULL";
+    private static final String INSERT_ORDER_ROLLUP = "INSERT INTO order_rollups"
+            + " (sales_date, status, order_count, revenue) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_COURSE_TYPE_ROLLUP = "INSERT INTO course_type_rollups"
+            + " (sales_date, status, course_type, sales, revenue) VALUES (?, ?, ?, ?, ?)";
+
+    private final ZoneId zone;
+
+    /**
+     * Constructor to read the zone the sales days are counted in.
+     *
+     * @param zone the zone of the sales rollups, as used by `SalesAnalyticsServiceImpl`.
+     */
+    public V5_1__BackfillSalesRollups(@Value("${analytics.sales.zone:UTC}") ZoneId zone) {
+        this.zone = zone;
+    }
+
+    /**
+     * Adds up the orders and order lines per day, status and course type and
+     * inserts one rollup row for each.
+     *
+     * @param context the Flyway context holding the migration connection.
+     */
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+
+        // [day, status] -> {order count, revenue}
+        Map<List<Object>, double[]> orders = new HashMap<>();
+        jdbcTemplate.query(SELECT_ORDERS, rs -> {
+            LocalDate day = SalesAnalyticsServiceImpl.salesDay(rs.getTimestamp(1), zone);
+            double[] rollup = orders.computeIfAbsent(List.of(day, rs.getString(2)), key -> new double[2]);
+            rollup[0]++;
+            rollup[1] += rs.getDouble(3);
+        });
+        // [day, status, course type] -> {sales, revenue}
+        Map<List<Object>, double[]> lines = new HashMap<>();
+        jdbcTemplate.query(SELECT_LINES, rs -> {
+            LocalDate day = SalesAnalyticsServiceImpl.salesDay(rs.getTimestamp(1), zone);
+            double[] rollup = lines.computeIfAbsent(List.of(day, rs.getString(2), rs.getString(3)),
+                    key -> new double[2]);
+            rollup[0]++;
+            rollup[1] += rs.getDouble(4);
+        });
+
+        List<Object[]> orderRows = new ArrayList<>(orders.size());
+        orders.forEach((key, rollup) -> orderRows.add(new Object[] {
+                Date.valueOf((LocalDate) key.get(0)), key.get(1), (long) rollup[0], rollup[1] }));
+        jdbcTemplate.batchUpdate(INSERT_ORDER_ROLLUP, orderRows);
+        List<Object[]> lineRows = new ArrayList<>(lines.size());
+        lines.forEach((key, rollup) -> lineRows.add(new Object[] {
+                Date.valueOf((LocalDate) key.get(0)), key.get(1), key.get(2), (long) rollup[0], rollup[1] }));
+        jdbcTemplate.batchUpdate(INSERT_COURSE_TYPE_ROLLUP, lineRows);
+    }
+}
@@ -0,0 +1,381 @@
+package com.examly.springapp.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.examly.springapp.model.Course;
+import com.examly.springapp.repository.CourseRepo;
+
+/**
+ * Prefix trie for course autocomplete.
+ *
+ * Keys are the full course type, each word of the type and each word of the
+ * details. Every node keeps its best `maxSuggestions` course IDs precomputed, so
+ * a keystroke costs one walk down the prefix and never a scan. Children are kept
+ * in sorted `char[]` arrays rather than maps to keep the trie compact. Only
+ * course IDs are kept; callers resolve them on read, so suggestions carry the
+ * course's current rating.
+ *
+ * A node only stores the courses whose keys end at it; its best courses are
+ * merged from those and its children's best courses, so a rebuild computes each
+ * node once, bottom-up, and a write recomputes only the nodes on the paths of
+ * the course being changed.
+ *
+ * @author Sannappa Priya
+ */
+@Component
+public class CourseAutocompleteTrie {
+
+    private static final double TYPE_WEIGHT = 3.0;
+    private static final double TYPE_WORD_WEIGHT = 2.0;
+    private static final double DETAILS_WEIGHT = 1.0;
+
+    private final CourseRepo courseRepo;
+    private final int maxSuggestions;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Map<String, Double>> keysByCourse = new HashMap<>();
+    private Node root = new Node();
+
+    /**
+     * Constructor to inject the `CourseRepo` bean and read the suggestion limit.
+     *
+     * @param courseRepo     the repository used to load the catalog at startup.
+     * @param maxSuggestions the number of suggestions precomputed per prefix.
+     */
+    public CourseAutocompleteTrie(CourseRepo courseRepo,
+            @Value("${search.autocomplete.max-suggestions:10}") int maxSuggestions) {
+        this.courseRepo = courseRepo;
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    /**
+     * Builds the trie from the database once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild(courseRepo.findAll());
+    }
+
+    /**
+     * Replaces the whole trie with the given courses.
+     *
+     * @param all every course in the catalog.
+     */
+    public void rebuild(Collection<Course> all) {
+        lock.writeLock().lock();
+        try {
+            root = new Node();
+            keysByCourse.clear();
+            for (Course course : all) {
+                add(course);
+            }
+            computeTops(root);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or re-indexes a single course.
+     *
+     * @param course the course that was added or updated.
+     */
+    public void index(Course course) {
+        lock.writeLock().lock();
+        try {
+            Set<String> touched = new HashSet<>(remove(course.getCourseId()));
+            add(course);
+            touched.addAll(keysByCourse.get(course.getCourseId()).keySet());
+            refresh(touched);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a single course from the trie.
+     *
+     * @param courseId the ID of the deleted course.
+     */
+    public void delete(long courseId) {
+        lock.writeLock().lock();
+        try {
+            refresh(remove(courseId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the best courses for a typed prefix.
+     *
+     * @param prefix the text typed so far.
+     * @param limit  the maximum number of suggestions; at most the configured maximum is returned.
+     * @return the IDs of the suggested courses, best first.
+     */
+    public List<Long> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            int count = Math.min(limit, node.top.length);
+            List<Long> suggestions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                suggestions.add(node.top[i]);
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Course course) {
+        long courseId = course.getCourseId();
+        Map<String, Double> keys = keysOf(course);
+        for (Map.Entry<String, Double> key : keys.entrySet()) {
+            Node node = root;
+            for (int i = 0; i < key.getKey().length(); i++) {
+                node = node.childOrCreate(key.getKey().charAt(i));
+            }
+            node.addEnd(courseId, key.getValue());
+        }
+        keysByCourse.put(courseId, keys);
+    }
+
+    private Set<String> remove(long courseId) {
+        Map<String, Double> keys = keysByCourse.remove(courseId);
+        if (keys == null) {
+            return Set.of();
+        }
+        for (String key : keys.keySet()) {
+            removePath(root, key, 0, courseId);
+        }
+        return keys.keySet();
+    }
+
+    private static void removePath(Node node, String key, int depth, long courseId) {
+        if (depth == key.length()) {
+            node.removeEnd(courseId);
+            return;
+        }
+        Node child = node.child(key.charAt(depth));
+        if (child == null) {
+            return;
+        }
+        removePath(child, key, depth + 1, courseId);
+        if (child.isEmpty()) {
+            node.removeChild(key.charAt(depth));
+        }
+    }
+
+    // recomputes the nodes on each key path, deepest first, since a node merges its children's tops
+    private void refresh(Set<String> keys) {
+        for (String key : keys) {
+            Node[] path = new Node[key.length()];
+            int depth = 0;
+            Node node = root;
+            while (depth < key.length() && (node = node.child(key.charAt(depth))) != null) {
+                path[depth++] = node;
+            }
+            for (int i = depth - 1; i >= 0; i--) {
+                path[i].recomputeTop(maxSuggestions);
+            }
+        }
+    }
+
+    // computes every node below the root once, children before their parent
+    private void computeTops(Node node) {
+        for (Node child : node.children) {
+            computeTops(child);
+        }
+        if (node != root) {
+            node.recomputeTop(maxSuggestions);
+        }
+    }
+
+    private static Map<String, Double> keysOf(Course course) {
+        Map<String, Double> keys = new HashMap<>();
+        String type = normalize(course.getCourseType());
+        if (!type.isEmpty()) {
+            keys.merge(type, TYPE_WEIGHT, Math::max);
+        }
+        for (String word : Tokenizer.tokenize(course.getCourseType())) {
+            keys.merge(word, TYPE_WORD_WEIGHT, Math::max);
+        }
+        for (String word : new LinkedHashSet<>(Tokenizer.tokenize(course.getCourseDetails()))) {
+            keys.merge(word, DETAILS_WEIGHT, Math::max);
+        }
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final long[] NO_IDS = new long[0];
+        private static final double[] NO_WEIGHTS = new double[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        // courses with a key ending at this node, and that key's weight; a course appears once per node
+        private long[] endIds = NO_IDS;
+        private double[] endWeights = NO_WEIGHTS;
+        private int endCount;
+        // best courses at or below this node, best first
+        private long[] top = NO_IDS;
+        private double[] topWeights = NO_WEIGHTS;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newKeys[at] = c;
+            newChildren[at] = new Node();
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[at];
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(keys, i + 1, newKeys, i, keys.length - i - 1);
+            System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        void addEnd(long courseId, double weight) {
+            if (endCount == endIds.length) {
+                int capacity = Math.max(4, endCount * 2);
+                endIds = Arrays.copyOf(endIds, capacity);
+                endWeights = Arrays.copyOf(endWeights, capacity);
+            }
+            endIds[endCount] = courseId;
+            endWeights[endCount] = weight;
+            endCount++;
+        }
+
+        void removeEnd(long courseId) {
+            for (int i = 0; i < endCount; i++) {
+                if (endIds[i] == courseId) {
+                    endCount--;
+                    endIds[i] = endIds[endCount];
+                    endWeights[i] = endWeights[endCount];
+                    return;
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return endCount == 0 && keys.length == 0;
+        }
+
+        // the best courses below are among the ends here and the children's own tops
+        void recomputeTop(int max) {
+            TopCourses best = new TopCourses(max);
+            for (int i = 0; i < endCount; i++) {
+                best.offer(endIds[i], endWeights[i]);
+            }
+            for (Node child : children) {
+                for (int i = 0; i < child.top.length; i++) {
+                    best.offer(child.top[i], child.topWeights[i]);
+                }
+            }
+            top = Arrays.copyOf(best.ids, best.size);
+            topWeights = Arrays.copyOf(best.weights, best.size);
+        }
+    }
+
+    /**
+     * Bounded list of the best course IDs, highest weight first and then lowest ID,
+     * keeping each course once at its highest weight.
+     */
+    private static final class TopCourses {
+        private final long[] ids;
+        private final double[] weights;
+        private int size;
+
+        TopCourses(int max) {
+            ids = new long[Math.max(max, 0)];
+            weights = new double[ids.length];
+        }
+
+        void offer(long courseId, double weight) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == courseId) {
+                    if (weights[i] >= weight) {
+                        return;
+                    }
+                    size--;
+                    System.arraycopy(ids, i + 1, ids, i, size - i);
+                    System.arraycopy(weights, i + 1, weights, i, size - i);
+                    break;
+                }
+            }
+            if (size == ids.length && (size == 0 || !ranksBefore(courseId, weight, size - 1))) {
+                return;
+            }
+            int i = size == ids.length ? size - 1 : size++;
+            for (; i > 0 && ranksBefore(courseId, weight, i - 1); i--) {
+                ids[i] = ids[i - 1];
+                weights[i] = weights[i - 1];
+            }
+            ids[i] = courseId;
+            weights[i] = weight;
+        }
+
+        private boolean ranksBefore(long courseId, double weight, int i) {
+            return weight > weights[i] || weight == weights[i] && courseId < ids[i];
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.examly.springapp.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.examly.springapp.model.Course;
+import com.examly.springapp.repository.CourseRepo;
+
+/**
+ * In-memory inverted index over `Course.courseType` and `Course.courseDetails`.
+ *
+ * Terms are kept in a sorted map so a query token also matches every indexed
+ * term it prefixes. Every query token must match for a course to be returned;
+ * results are ranked by TF-IDF, with type matches weighted above detail matches
+ * and exact terms above prefix matches. The index is updated per course, so a
+ * single add, update or delete never rebuilds it. Only course IDs are kept;
+ * callers resolve them on read, so results carry the course's current rating.
+ *
+ * @author Sannappa Priya
+ */
+@Component
+public class CourseSearchIndex {
+
+    private static final double TYPE_WEIGHT = 3.0;
+    private static final double DETAILS_WEIGHT = 1.0;
+    private static final double PREFIX_WEIGHT = 0.5;
+
+    private final CourseRepo courseRepo;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // term -> (courseId -> weighted term frequency)
+    private final NavigableMap<String, Map<Long, Double>> postings = new TreeMap<>();
+    private final Map<Long, Map<String, Double>> termsByCourse = new HashMap<>();
+
+    /**
+     * Constructor to inject the `CourseRepo` bean.
+     *
+     * @param courseRepo the repository used to load the catalog at startup.
+     */
+    public CourseSearchIndex(CourseRepo courseRepo) {
+        this.courseRepo = courseRepo;
+    }
+
+    /**
+     * Builds the index from the database once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild(courseRepo.findAll());
+    }
+
+    /**
+     * Replaces the whole index with the given courses.
+     *
+     * @param all every course in the catalog.
+     */
+    public void rebuild(Collection<Course> all) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByCourse.clear();
+            for (Course course : all) {
+                add(course);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or re-indexes a single course.
+     *
+     * @param course the course that was added or updated.
+     */
+    public void index(Course course) {
+        lock.writeLock().lock();
+        try {
+            remove(course.getCourseId());
+            add(course);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a single course from the index.
+     *
+     * @param courseId the ID of the deleted course.
+     */
+    public void delete(long courseId) {
+        lock.writeLock().lock();
+        try {
+            remove(courseId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Searches the index.
+     *
+     * @param query free text; every token must match a term exactly or as a prefix.
+     * @param limit the maximum number of results.
+     * @return the IDs of the matching courses, best first.
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> tokens = Tokenizer.tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String token : tokens) {
+                Map<Long, Double> tokenScores = score(token);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((id, score) -> score + tokenScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+            List<Long> results = new ArrayList<>(Math.min(limit, ranked.size()));
+            for (int i = 0; i < ranked.size() && i < limit; i++) {
+                results.add(ranked.get(i).getKey());
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return termsByCourse.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> score(String token) {
+        Map<Long, Double> scores = new HashMap<>();
+        int total = Math.max(termsByCourse.size(), 1);
+        for (Map.Entry<String, Map<Long, Double>> posting : Tokenizer.prefixRange(postings, token).entrySet()) {
+            Map<Long, Double> docs = posting.getValue();
+            double idf = Math.log(1.0 + (double) total / docs.size());
+            double weight = posting.getKey().equals(token) ? 1.0 : PREFIX_WEIGHT;
+            for (Map.Entry<Long, Double> doc : docs.entrySet()) {
+                scores.merge(doc.getKey(), doc.getValue() * idf * weight, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    private void add(Course course) {
+        Map<String, Double> terms = new HashMap<>();
+        for (String term : Tokenizer.tokenize(course.getCourseType())) {
+            terms.merge(term, TYPE_WEIGHT, Double::sum);
+        }
+        for (String term : Tokenizer.tokenize(course.getCourseDetails())) {
+            terms.merge(term, DETAILS_WEIGHT, Double::sum);
+        }
+        long courseId = course.getCourseId();
+        for (Map.Entry<String, Double> term : terms.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(courseId, term.getValue());
+        }
+        termsByCourse.put(courseId, terms);
+    }
+
+    private void remove(long courseId) {
+        Map<String, Double> terms = termsByCourse.remove(courseId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<Long, Double> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(courseId);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
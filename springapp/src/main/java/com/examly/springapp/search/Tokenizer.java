@@ -0,0 +1,53 @@
+package com.examly.springapp.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+
+/**
+ * Splits course text into lower-case alphanumeric terms for the search indexes.
+ *
+ * @author Sannappa Priya
+ */
+final class Tokenizer {
+
+    private Tokenizer() {
+    }
+
+    /**
+     * Tokenizes text into lower-case terms, splitting on anything that is not a letter or digit.
+     *
+     * @param text the text to tokenize, may be null.
+     * @return the terms in order of appearance.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the entries of a term-sorted map whose keys start with the prefix.
+     *
+     * @param sorted the map keyed by term.
+     * @param prefix the prefix to match.
+     * @return a live view of the matching entries.
+     */
+    static <V> NavigableMap<String, V> prefixRange(NavigableMap<String, V> sorted, String prefix) {
+        return sorted.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+}
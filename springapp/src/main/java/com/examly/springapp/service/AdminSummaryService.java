@@ -0,0 +1,18 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.model.AdminSummaryDTO;
+
+/**
+ * Interface defining the contract for AdminSummaryService.
+ */
+public interface AdminSummaryService {
+
+    /**
+     * Retrieves the totals shown on the admin dashboard tiles.
+     *
+     * @return the user, customer, course, review and order counts and the revenue.
+     *
+     * @author Shantanu
+     */
+    AdminSummaryDTO getSummary();
+}
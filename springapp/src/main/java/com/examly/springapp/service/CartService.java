@@ -2,6 +2,8 @@ package com.examly.springapp.service;
 
 import java.util.List;
 import com.examly.springapp.model.Cart;
+import com.examly.springapp.model.CartDeltaDTO;
+import com.examly.springapp.model.CartSummaryDTO;
 
 /**
  * Interface defining the contract for CartService.
@@ -59,4 +61,29 @@ public interface CartService {
     public List<Cart> getAllCarts();
 
     public void clearCart(long userId);
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the admin listing of all carts with only the displayed columns.
+     *
+     * @return a list of cart summaries.
+     */
+    public List<CartSummaryDTO> getCartSummaries();
+
+    /**
+     * Adds a single course to a customer's cart, creating the cart on first use.
+     *
+     * @param customerId the ID of the customer who owns the cart.
+     * @param courseId the ID of the course to be added.
+     * @return the cart delta.
+     */
+    public CartDeltaDTO addCourseToCustomerCart(long customerId, long courseId);
+
+    /**
+     * Removes a single course from a customer's cart.
+     *
+     * @param customerId the ID of the customer who owns the cart.
+     * @param courseId the ID of the course to be removed.
+     * @return the cart delta.
+     */
+    public CartDeltaDTO removeCourseFromCustomerCart(long customerId, long courseId);
+}
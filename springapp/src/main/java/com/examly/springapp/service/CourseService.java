@@ -2,6 +2,7 @@ package com.examly.springapp.service;
 
 import java.util.List;
 import com.examly.springapp.model.Course;
+import com.examly.springapp.model.CoursePageDTO;
 
 /**
  * Interface defining the contract for CourseService.
@@ -48,4 +49,52 @@ public interface CourseService {
      * @return true if the course was successfully deleted, false otherwise.
      */
     boolean deleteCourse(long courseId);
-}
\ No newline at end of file
+
+    /**
+     * Retrieves one page of courses by page number.
+     *
+     * @param page       the zero-based page number.
+     * @param size       the page size.
+     * @param sort       the sort key: "price", "type" or "id".
+     * @param descending whether to sort in descending order.
+     * @param courseType the course type to match, or null for any.
+     * @param minPrice   the lowest price to include, or null.
+     * @param maxPrice   the highest price to include, or null.
+     * @return the requested page.
+     */
+    CoursePageDTO getCoursePage(int page, int size, String sort, boolean descending,
+            String courseType, Double minPrice, Double maxPrice);
+
+    /**
+     * Retrieves the page of courses that follows a keyset cursor, in ascending order.
+     *
+     * @param size       the page size.
+     * @param sort       the sort key: "price", "type" or "id".
+     * @param afterValue the sort key value of the last course already returned, or null for the first page.
+     * @param afterId    the ID of the last course already returned, or null for the first page.
+     * @param courseType the course type to match, or null for any.
+     * @param minPrice   the lowest price to include, or null.
+     * @param maxPrice   the highest price to include, or null.
+     * @return the requested page.
+     */
+    CoursePageDTO getCoursesAfter(int size, String sort, String afterValue, Long afterId,
+            String courseType, Double minPrice, Double maxPrice);
+
+    /**
+     * Searches courses by type and details.
+     *
+     * @param query free text to search for.
+     * @param limit the maximum number of results.
+     * @return the matching courses, best first.
+     */
+    List<Course> searchCourses(String query, int limit);
+
+    /**
+     * Suggests courses for a partially typed search term.
+     *
+     * @param prefix the text typed so far.
+     * @param limit  the maximum number of suggestions.
+     * @return the suggested courses, best first.
+     */
+    List<Course> suggestCourses(String prefix, int limit);
+}
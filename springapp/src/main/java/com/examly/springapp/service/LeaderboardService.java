@@ -0,0 +1,30 @@
+package com.examly.springapp.service;
+
+import java.util.List;
+import com.examly.springapp.model.CourseRankDTO;
+
+/**
+ * Interface defining the contract for LeaderboardService.
+ */
+public interface LeaderboardService {
+
+    /**
+     * Retrieves the best-selling courses of a time window.
+     *
+     * @param window the window to rank sales in: `day`, `week` or `month`.
+     * @param limit  the maximum number of courses to return.
+     * @return the ranked courses, best first.
+     * @throws com.examly.springapp.exception.InvalidRequestException if the window is not recognised.
+     *
+     * @author Shantanu
+     */
+    List<CourseRankDTO> getBestsellers(String window, int limit);
+
+    /**
+     * Retrieves the highest-rated courses.
+     *
+     * @param limit the maximum number of courses to return.
+     * @return the ranked courses, best first.
+     */
+    List<CourseRankDTO> getTopRated(int limit);
+}
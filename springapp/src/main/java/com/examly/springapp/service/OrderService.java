@@ -1,6 +1,9 @@
 package com.examly.springapp.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import com.examly.springapp.model.OrderSummaryDTO;
 import com.examly.springapp.model.Orders;
 
 /**
@@ -17,6 +20,16 @@ public interface OrderService {
      */
     Orders addOrder(Orders newOrder);
 
+    /**
+     * Adds a new order unless the same idempotency key was already used, in which
+     * case the stored result of the first request is returned instead.
+     *
+     * @param newOrder the order to be added.
+     * @param idempotencyKey the `Idempotency-Key` sent by the client, or null.
+     * @return the added order.
+     */
+    Orders addOrder(Orders newOrder, String idempotencyKey);
+
     /**
      * Retrieves all orders from the system.
      *
@@ -47,5 +60,51 @@ public interface OrderService {
      * @return true if the order was successfully deleted, false otherwise.
      */
     boolean deleteOrder(long orderId);      
-    public Orders updateOrderStatus(long orderId, String status);  
+    public Orders updateOrderStatus(long orderId, String status);
+
+    /**
+     * Retrieves the admin listing of all orders with only the displayed columns.
+     *
+     * @return a list of order summaries.
+     */
+    List<OrderSummaryDTO> getOrderSummaries();
+
+    /**
+     * Writes every order as newline-delimited JSON, one order per line, without
+     * holding the whole listing in memory.
+     *
+     * @param out the stream to write to.
+     * @return the number of orders written.
+     * @throws IOException if writing to the stream fails.
+     */
+    long streamOrdersAsJson(OutputStream out) throws IOException;
+
+    /**
+     * Places an order for every course in the user's cart and empties the cart,
+     * all in one transaction.
+     *
+     * @param userId the ID of the user checking out.
+     * @return the summary of the created order.
+     */
+    OrderSummaryDTO checkout(long userId);
+
+    /**
+     * Checks out the user's cart unless the same idempotency key was already used,
+     * in which case the stored result of the first request is returned instead.
+     *
+     * @param userId the ID of the user checking out.
+     * @param idempotencyKey the `Idempotency-Key` sent by the client, or null.
+     * @return the summary of the created order.
+     */
+    OrderSummaryDTO checkout(long userId, String idempotencyKey);
+
+    /**
+     * Writes every order as CSV with a header row, without holding the whole
+     * listing in memory.
+     *
+     * @param out the stream to write to.
+     * @return the number of orders written.
+     * @throws IOException if writing to the stream fails.
+     */
+    long streamOrdersAsCsv(OutputStream out) throws IOException;
 }
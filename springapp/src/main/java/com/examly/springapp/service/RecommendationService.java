@@ -0,0 +1,29 @@
+package com.examly.springapp.service;
+
+import java.util.List;
+import com.examly.springapp.model.CourseRankDTO;
+
+/**
+ * Interface defining the contract for RecommendationService.
+ */
+public interface RecommendationService {
+
+    /**
+     * Retrieves the courses most often bought together with a course.
+     *
+     * @param courseId the ID of the course.
+     * @param limit    the maximum number of courses to return.
+     * @return the recommended courses, most often bought together first.
+     * @throws jakarta.persistence.EntityNotFoundException if the course does not exist.
+     *
+     * @author Shantanu
+     */
+    List<CourseRankDTO> getAlsoBought(long courseId, int limit);
+
+    /**
+     * Rebuilds the recommendations from the whole order history.
+     *
+     * @return the number of orders read.
+     */
+    int rebuild();
+}
@@ -1,7 +1,9 @@
 package com.examly.springapp.service;
 
 import java.util.List;
+import com.examly.springapp.model.CourseRating;
 import com.examly.springapp.model.Review;
+import com.examly.springapp.model.ReviewSummaryDTO;
 
 /**
  * Interface defining the contract for ReviewService.
@@ -48,4 +50,27 @@ public interface ReviewService {
      * @return true if the review was successfully deleted, false otherwise.
      */
     boolean deleteReview(long reviewId);
+
+    /**
+     * Retrieves the admin listing of all reviews with only the displayed columns.
+     *
+     * @return a list of review summaries.
+     */
+    List<ReviewSummaryDTO> getReviewSummaries();
+
+    /**
+     * Retrieves the reviews of a course.
+     *
+     * @param courseId the ID of the course.
+     * @return a list of reviews of the course.
+     */
+    List<Review> getReviewsByCourseId(long courseId);
+
+    /**
+     * Retrieves the rating aggregate of a course.
+     *
+     * @param courseId the ID of the course.
+     * @return the rating count, average and star histogram of the course.
+     */
+    CourseRating getCourseRating(long courseId);
 }
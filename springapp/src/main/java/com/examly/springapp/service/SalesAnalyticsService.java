@@ -0,0 +1,50 @@
+package com.examly.springapp.service;
+
+import java.time.LocalDate;
+
+import com.examly.springapp.model.Orders;
+import com.examly.springapp.model.SalesReportDTO;
+
+/**
+ * Interface defining the contract for SalesAnalyticsService.
+ */
+public interface SalesAnalyticsService {
+
+    /**
+     * Retrieves the order count and revenue per day, week or month, and the course
+     * sales per course type, over a range of days.
+     *
+     * @param granularity the length of each period: `day`, `week` or `month`.
+     * @param from        the first day, or null for a default range ending at `to`.
+     * @param to          the last day, or null for today.
+     * @param status      the order status to report on, or null for every status.
+     * @return the sales report.
+     * @throws com.examly.springapp.exception.InvalidRequestException if the granularity or range is invalid.
+     *
+     * @author Shantanu
+     */
+    SalesReportDTO getSalesReport(String granularity, LocalDate from, LocalDate to, String status);
+
+    /**
+     * Adds a new order to the rollups, in the current transaction.
+     *
+     * @param order the saved order, with its lines and their prices already written.
+     */
+    void recordOrder(Orders order);
+
+    /**
+     * Takes a deleted order out of the rollups, in the current transaction.
+     *
+     * @param order the order being deleted.
+     */
+    void removeOrder(Orders order);
+
+    /**
+     * Moves an order from its old status to its current one in the rollups, in
+     * the current transaction.
+     *
+     * @param order     the order with its new status.
+     * @param oldStatus the status the order had before.
+     */
+    void changeStatus(Orders order, String oldStatus);
+}
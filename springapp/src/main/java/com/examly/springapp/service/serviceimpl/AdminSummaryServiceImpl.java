@@ -0,0 +1,103 @@
+package com.examly.springapp.service.serviceimpl;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.examly.springapp.model.AdminSummaryDTO;
+import com.examly.springapp.model.OrderStatusCountDTO;
+import com.examly.springapp.repository.CourseRepo;
+import com.examly.springapp.repository.CustomerRepo;
+import com.examly.springapp.repository.OrderRepo;
+import com.examly.springapp.repository.ReviewRepo;
+import com.examly.springapp.repository.UserRepo;
+import com.examly.springapp.service.AdminSummaryService;
+
+/**
+ * Service implementation for the admin dashboard totals.
+ * 
+ * Annotated with `@Service` to indicate it's a Spring service class.
+ * The totals come from COUNT queries and one grouped COUNT/SUM over the order
+ * status index, taken together in one read-only transaction. The result is
+ * kept for `admin.summary.ttl-seconds`, and only one request reloads it when it
+ * expires, so dashboards refreshing at once share a single set of queries.
+ * 
+ * @author Shantanu
+ */
+@Service
+public class AdminSummaryServiceImpl implements AdminSummaryService {
+
+    private final UserRepo userRepo;
+    private final CustomerRepo customerRepo;
+    private final CourseRepo courseRepo;
+    private final ReviewRepo reviewRepo;
+    private final OrderRepo orderRepo;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long ttlMillis;
+    private volatile AdminSummaryDTO cached;
+
+    /**
+     * Constructor to inject the repositories and read the cache lifetime.
+     * 
+     * @param userRepo           the repository counting users.
+     * @param customerRepo       the repository counting customers.
+     * @param courseRepo         the repository counting courses.
+     * @param reviewRepo         the repository counting reviews.
+     * @param orderRepo          the repository counting orders per status.
+     * @param transactionManager the manager of the read-only transaction the counts share.
+     * @param ttlSeconds         the time a summary is served before it is reloaded.
+     */
+    public AdminSummaryServiceImpl(UserRepo userRepo, CustomerRepo customerRepo, CourseRepo courseRepo,
+            ReviewRepo reviewRepo, OrderRepo orderRepo, PlatformTransactionManager transactionManager,
+            @Value("${admin.summary.ttl-seconds:5}") long ttlSeconds) {
+        this.userRepo = userRepo;
+        this.customerRepo = customerRepo;
+        this.courseRepo = courseRepo;
+        this.reviewRepo = reviewRepo;
+        this.orderRepo = orderRepo;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * Retrieves the totals shown on the admin dashboard tiles, at most
+     * `admin.summary.ttl-seconds` old.
+     * 
+     * @return the user, customer, course, review and order counts and the revenue.
+     */
+    @Override
+    public AdminSummaryDTO getSummary() {
+        AdminSummaryDTO current = cached;
+        if (isFresh(current)) {
+            return current;
+        }
+        synchronized (this) {
+            current = cached;
+            if (!isFresh(current)) {
+                current = readOnlyTransaction.execute(status -> load());
+                cached = current;
+            }
+            return current;
+        }
+    }
+
+    private boolean isFresh(AdminSummaryDTO summary) {
+        return summary != null && System.currentTimeMillis() - summary.getGeneratedAt() < ttlMillis;
+    }
+
+    private AdminSummaryDTO load() {
+        List<OrderStatusCountDTO> ordersByStatus = orderRepo.countByStatus();
+        long orders = 0;
+        double revenue = 0;
+        for (OrderStatusCountDTO status : ordersByStatus) {
+            orders += status.getOrderCount();
+            revenue += status.getRevenue();
+        }
+        return new AdminSummaryDTO(userRepo.count(), customerRepo.count(), courseRepo.count(), reviewRepo.count(),
+                orders, revenue, ordersByStatus, System.currentTimeMillis());
+    }
+}
@@ -1,14 +1,25 @@
 package com.examly.springapp.service.serviceimpl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.examly.springapp.config.OptimisticRetry;
 import com.examly.springapp.exception.EmptyCartException;
+import com.examly.springapp.exception.StaleVersionException;
 import com.examly.springapp.model.Cart;
+import com.examly.springapp.model.CartDeltaDTO;
+import com.examly.springapp.model.CartSummaryDTO;
 import com.examly.springapp.model.Course;
+import com.examly.springapp.model.Customer;
 import com.examly.springapp.repository.CartRepo;
+import com.examly.springapp.repository.CourseRepo;
+import com.examly.springapp.repository.CustomerRepo;
 import com.examly.springapp.service.CartService;
 
 import jakarta.persistence.EntityExistsException;
@@ -26,18 +37,29 @@ import jakarta.persistence.EntityNotFoundException;
 public class CartServiceImpl implements CartService {
 
     private final CartRepo cartRepo; 
+    private final CustomerRepo customerRepo;
+    private final CourseRepo courseRepo;
+    private final OptimisticRetry optimisticRetry;
     private static final String CART_NOT_FOUND = "CART NOT FOUND WITH ID: "; 
+    private static final String COURSE_NOT_FOUND = "COURSE NOT FOUND WITH ID: ";
     /**
-     * Constructor to inject the `CartRepo` bean.
+     * Constructor to inject the `CartRepo`, `CustomerRepo` and `CourseRepo` beans.
      * 
      * @param cartRepo the repository for managing `Cart` entity data access.
+     * @param customerRepo the repository used to create a cart for a customer on first use.
+     * @param courseRepo the repository used to report unknown courses.
+     * @param optimisticRetry the retry policy for updates that lose a version race.
      */
-    public CartServiceImpl(CartRepo cartRepo) {
+    public CartServiceImpl(CartRepo cartRepo, CustomerRepo customerRepo, CourseRepo courseRepo,
+            OptimisticRetry optimisticRetry) {
         this.cartRepo = cartRepo;
+        this.customerRepo = customerRepo;
+        this.courseRepo = courseRepo;
+        this.optimisticRetry = optimisticRetry;
     }
 
     /**
-     * Adds a new cart to the system.
+     * Adds a new cart to the system, computing its total from the stored course prices.
      * 
      * @param newCart the new cart entity to be added.
      * @return the saved cart entity.
@@ -50,25 +72,38 @@ public class CartServiceImpl implements CartService {
         if (foundCart.isPresent()) {
             throw new EntityExistsException("Cart With ID: " + cartId + " Already Exists.");
         }
+        newCart.setTotalAmount(totalOf(newCart.getCourses()));
         return cartRepo.save(newCart);
     }
 
     /**
-     * Updates an existing cart.
+     * Updates an existing cart, computing its total from the stored course prices.
+     * If the request carries the version the client read, the update is rejected when
+     * the cart has changed since; a write racing this one is retried on fresh state.
      * 
      * @param cartId      the ID of the cart to be updated.
      * @param updatedCart the updated cart entity.
      * @return the updated cart entity.
      * @throws EntityNotFoundException if the cart with the given ID is not found.
+     * @throws StaleVersionException if the client's version is out of date.
      */
     @Override
     public Cart updateCart(long cartId, Cart updatedCart) {
-        Optional<Cart> existingCart = cartRepo.findById(cartId);
-        if (existingCart.isPresent()) {
+        Long expectedVersion = updatedCart.getVersion();
+        return optimisticRetry.execute(() -> {
+            Optional<Cart> existingCart = cartRepo.findById(cartId);
+            if (!existingCart.isPresent()) {
+                throw new EntityNotFoundException(CART_NOT_FOUND + cartId);
+            }
+            Long currentVersion = existingCart.get().getVersion();
+            if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+                throw new StaleVersionException("Cart With ID: " + cartId + " Was Modified, Reload And Retry.");
+            }
             updatedCart.setCartId(cartId);
+            updatedCart.setVersion(currentVersion);
+            updatedCart.setTotalAmount(totalOf(updatedCart.getCourses()));
             return cartRepo.save(updatedCart);
-        }
-        throw new EntityNotFoundException(CART_NOT_FOUND + cartId);
+        });
     }
 
     /**
@@ -81,20 +116,23 @@ public class CartServiceImpl implements CartService {
      */
     @Override
     public Cart removeCourseFromCart(long cartId, long courseId) {
-        Optional<Cart> existingCart = cartRepo.findById(cartId);
-        if (existingCart.isPresent()) {
-            Cart cart = existingCart.get();
-            List<Course> courses = cart.getCourses();
-            int initialLength = courses.size();
-            courses.removeIf(course -> course.getCourseId() == courseId);
-            int finalLength = courses.size();
-            if (initialLength == finalLength) {
-                throw new EntityNotFoundException("Course With ID: Not found." + courseId );
+        return optimisticRetry.execute(() -> {
+            Optional<Cart> existingCart = cartRepo.findById(cartId);
+            if (existingCart.isPresent()) {
+                Cart cart = existingCart.get();
+                List<Course> courses = cart.getCourses();
+                int initialLength = courses.size();
+                courses.removeIf(course -> course.getCourseId() == courseId);
+                int finalLength = courses.size();
+                if (initialLength == finalLength) {
+                    throw new EntityNotFoundException(COURSE_NOT_FOUND + courseId);
+                }
+                cart.setCourses(courses);
+                cart.setTotalAmount(sum(courses));
+                return cartRepo.save(cart);
             }
-            cart.setCourses(courses);
-            return cartRepo.save(cart);
-        }
-        throw new EntityNotFoundException(CART_NOT_FOUND + cartId);
+            throw new EntityNotFoundException(CART_NOT_FOUND + cartId);
+        });
     }
 
     /**
@@ -105,6 +143,7 @@ public class CartServiceImpl implements CartService {
      * @throws EntityNotFoundException if the cart for the given user ID is not found.
      */
     @Override
+    @Transactional(readOnly = true)
     public Cart getCartByUserId(long userId) {
         Optional<Cart> foundCart = cartRepo.findByUserId(userId);
         if (foundCart.isPresent()) {
@@ -121,6 +160,7 @@ public class CartServiceImpl implements CartService {
      * @throws EntityNotFoundException if the cart for the given customer ID is not found.
      */
     @Override
+    @Transactional(readOnly = true)
     public Cart getCartByCustomerId(long customerId) {
         Optional<Cart> foundCart = cartRepo.findByCustomerId(customerId);
         if (foundCart.isPresent()) {
@@ -136,6 +176,7 @@ public class CartServiceImpl implements CartService {
      * @throws EmptyCartException if no carts are available.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Cart> getAllCarts() {
         List<Cart> carts = cartRepo.findAll();
         if (carts.isEmpty()) {
@@ -146,13 +187,120 @@ public class CartServiceImpl implements CartService {
 
     @Override
     public void clearCart(long userId) {
-        Optional<Cart> foundCart = cartRepo.findByUserId(userId);
-        if (foundCart.isPresent()) {
-            Cart cart = foundCart.get();
-            cart.getCourses().clear();
-            cartRepo.save(cart);
-        } else {
+        optimisticRetry.execute(() -> {
+            Optional<Cart> foundCart = cartRepo.findByUserId(userId);
+            if (foundCart.isPresent()) {
+                Cart cart = foundCart.get();
+                cart.getCourses().clear();
+                cart.setTotalAmount(0);
+                return cartRepo.save(cart);
+            }
             throw new EntityNotFoundException("Cart Of User Not Found with ID: " + userId);
+        });
+    }
+
+    /**
+     * Retrieves the admin listing of all carts with only the displayed columns.
+     * 
+     * @return a list of cart summaries.
+     * @throws EmptyCartException if no carts are available.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CartSummaryDTO> getCartSummaries() {
+        List<CartSummaryDTO> carts = cartRepo.findCartSummaries();
+        if (carts.isEmpty()) {
+            throw new EmptyCartException("No Carts Available.");
+        }
+        return carts;
+    }
+
+    /**
+     * Adds a single course to a customer's cart with one `cart_course` INSERT and
+     * one arithmetic update of the total, creating an empty cart first if the
+     * customer does not have one yet.
+     * 
+     * @param customerId the ID of the customer who owns the cart.
+     * @param courseId   the ID of the course to be added.
+     * @return the cart delta, unchanged if the course was already in the cart.
+     * @throws EntityNotFoundException if the customer or the course is not found.
+     */
+    @Override
+    @Transactional
+    public CartDeltaDTO addCourseToCustomerCart(long customerId, long courseId) {
+        long cartId = cartRepo.findCartIdByCustomerId(customerId)
+                .orElseGet(() -> createCart(customerId));
+        if (cartRepo.insertCourse(cartId, courseId) == 1) {
+            cartRepo.addToTotal(cartId, courseId);
+            return new CartDeltaDTO(cartId, courseId, true, cartRepo.findTotalAmount(cartId));
+        }
+        if (!courseRepo.existsById(courseId)) {
+            throw new EntityNotFoundException(COURSE_NOT_FOUND + courseId);
+        }
+        return new CartDeltaDTO(cartId, courseId, false, cartRepo.findTotalAmount(cartId));
+    }
+
+    /**
+     * Removes a single course from a customer's cart with one `cart_course` DELETE
+     * and one arithmetic update of the total.
+     * 
+     * @param customerId the ID of the customer who owns the cart.
+     * @param courseId   the ID of the course to be removed.
+     * @return the cart delta, unchanged if the course was not in the cart.
+     * @throws EntityNotFoundException if the customer has no cart.
+     */
+    @Override
+    @Transactional
+    public CartDeltaDTO removeCourseFromCustomerCart(long customerId, long courseId) {
+        Optional<Long> cartId = cartRepo.findCartIdByCustomerId(customerId);
+        if (!cartId.isPresent()) {
+            throw new EntityNotFoundException("Cart Of The Customer Not Found: " + customerId);
+        }
+        int removed = cartRepo.deleteCourse(cartId.get(), courseId);
+        for (int i = 0; i < removed; i++) {
+            cartRepo.subtractFromTotal(cartId.get(), courseId);
+        }
+        return new CartDeltaDTO(cartId.get(), courseId, removed > 0, cartRepo.findTotalAmount(cartId.get()));
+    }
+
+    private long createCart(long customerId) {
+        Optional<Customer> customer = customerRepo.findById(customerId);
+        if (!customer.isPresent()) {
+            throw new EntityNotFoundException("Customer with ID: " + customerId + " not found.");
+        }
+        Cart cart = new Cart();
+        cart.setCustomer(customer.get());
+        cart.setCourses(new ArrayList<>());
+        return cartRepo.saveAndFlush(cart).getCartId();
+    }
+
+    /**
+     * Sums the stored prices of the given courses, ignoring any price sent by the client.
+     */
+    private double totalOf(List<Course> courses) {
+        if (courses == null || courses.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Double> prices = new HashMap<>();
+        for (Course course : courseRepo.findAllById(courses.stream().map(Course::getCourseId).toList())) {
+            prices.put(course.getCourseId(), course.getCoursePrice());
+        }
+        double total = 0;
+        for (Course course : courses) {
+            Double price = prices.get(course.getCourseId());
+            if (price == null) {
+                throw new EntityNotFoundException(COURSE_NOT_FOUND + course.getCourseId());
+            }
+            total += price;
+        }
+        return Math.round(total * 100) / 100.0;
+    }
+
+    private static double sum(List<Course> courses) {
+        double total = 0;
+        for (Course course : courses) {
+            total += course.getCoursePrice();
         }
+        return Math.round(total * 100) / 100.0;
     }
 }
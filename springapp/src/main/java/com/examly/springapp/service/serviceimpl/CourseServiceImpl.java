@@ -1,13 +1,31 @@
 package com.examly.springapp.service.serviceimpl;
 
+import com.examly.springapp.cache.CourseCatalogCache;
+import com.examly.springapp.exception.InvalidRequestException;
 import com.examly.springapp.model.Course;
+import com.examly.springapp.model.CoursePageDTO;
+import com.examly.springapp.model.CourseRating;
+import com.examly.springapp.repository.CartRepo;
+import com.examly.springapp.repository.CourseRatingRepo;
 import com.examly.springapp.repository.CourseRepo;
+import com.examly.springapp.search.CourseAutocompleteTrie;
+import com.examly.springapp.search.CourseSearchIndex;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import com.examly.springapp.service.CourseService;
 
 import jakarta.persistence.EntityExistsException;
@@ -26,33 +44,51 @@ public class CourseServiceImpl implements CourseService {
 
     @Autowired 
     private CourseRepo courseRepo;
+    @Autowired
+    private CartRepo cartRepo;
+    @Autowired
+    private CourseRatingRepo courseRatingRepo;
+    @Autowired
+    private CourseCatalogCache catalogCache;
+    @Autowired
+    private CourseSearchIndex searchIndex;
+    @Autowired
+    private CourseAutocompleteTrie autocompleteTrie;
     private static final String COURSE_NOT_FOUND = "COURSE NOT FOUND WITH ID: ";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String COURSE_ID = "courseId";
 
     /**
-     * Adds a new course to the system.
+     * Adds a new course to the system, together with its empty rating aggregate.
+     * The course reaches the catalog cache and the search indexes once both commit.
      * 
      * @param newCourse the new course entity to be added.
      * @return the saved course entity.
      * @throws EntityExistsException if a course with the same ID already exists.
      */
     @Override
+    @Transactional
     public Course addCourse(Course newCourse) {
         long courseId = newCourse.getCourseId();
         Optional<Course> course = courseRepo.findById(courseId);
         if (course.isPresent()) {
             throw new EntityExistsException("Course with ID: " + courseId + " Already Exists.");
         }
-        return courseRepo.save(newCourse);
+        Course saved = courseRepo.save(newCourse);
+        courseRatingRepo.save(new CourseRating(saved.getCourseId()));
+        refreshAfterCommit(saved);
+        return saved;
     }
 
     /**
-     * Retrieves a list of all courses.
+     * Retrieves a list of all courses, served from the catalog cache.
      * 
      * @return a list of all course entities.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Course> getAllCourses() {
-        return courseRepo.findAll();
+        return catalogCache.getAll(courseRepo::findAll);
     }
 
     /**
@@ -63,7 +99,12 @@ public class CourseServiceImpl implements CourseService {
      * @throws EntityNotFoundException if the course with the given ID is not found.
      */
     @Override
+    @Transactional(readOnly = true)
     public Course getCourseById(long courseId) {
+        Course cached = catalogCache.get(courseId);
+        if (cached != null) {
+            return cached;
+        }
         Optional<Course> course = courseRepo.findById(courseId);
         if (course.isPresent()) {
             return course.get();
@@ -72,7 +113,9 @@ public class CourseServiceImpl implements CourseService {
     }
 
     /**
-     * Updates an existing course.
+     * Updates an existing course. If the price changed, the totals of every cart
+     * holding the course are recomputed in a single statement. The catalog cache
+     * and the search indexes are refreshed once the update commits.
      * 
      * @param courseId  the ID of the course to be updated.
      * @param newCourse the updated course entity.
@@ -80,13 +123,20 @@ public class CourseServiceImpl implements CourseService {
      * @throws EntityNotFoundException if the course with the given ID is not found.
      */
     @Override
+    @Transactional
     public Course updateCourse(long courseId, Course newCourse) {
         Optional<Course> course = courseRepo.findById(courseId);
         if (!course.isPresent()) {
             throw new EntityNotFoundException(COURSE_NOT_FOUND+courseId );
         }
+        double oldPrice = course.get().getCoursePrice();
         newCourse.setCourseId(courseId);
-        return courseRepo.save(newCourse);
+        Course saved = courseRepo.save(newCourse);
+        if (saved.getCoursePrice() != oldPrice) {
+            cartRepo.repriceCartsContaining(courseId);
+        }
+        refreshAfterCommit(saved);
+        return saved;
     }
 
     /**
@@ -103,6 +153,200 @@ public class CourseServiceImpl implements CourseService {
             throw new EntityNotFoundException(COURSE_NOT_FOUND + courseId );
         }
         courseRepo.deleteById(courseId);
+        catalogCache.invalidate();
+        searchIndex.delete(courseId);
+        autocompleteTrie.delete(courseId);
         return true;
     }
+
+    /**
+     * Retrieves one page of courses by page number. Uses a `Slice` so no count query is issued.
+     * 
+     * @param page       the zero-based page number.
+     * @param size       the page size, capped at 100.
+     * @param sort       the sort key: "price", "type" or "id".
+     * @param descending whether to sort in descending order.
+     * @param courseType the course type to match, or null for any.
+     * @param minPrice   the lowest price to include, or null.
+     * @param maxPrice   the highest price to include, or null.
+     * @return the requested page.
+     * @throws InvalidRequestException if the page, size or sort key is invalid.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CoursePageDTO getCoursePage(int page, int size, String sort, boolean descending,
+            String courseType, Double minPrice, Double maxPrice) {
+        if (page < 0) {
+            throw new InvalidRequestException("Page must not be negative.");
+        }
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort order = Sort.by(direction, sortProperty(sort)).and(Sort.by(direction, COURSE_ID));
+        Slice<Course> slice = courseRepo.findFiltered(courseType, minPrice, maxPrice,
+                PageRequest.of(page, checkSize(size), order));
+        return toPage(slice, page, sort, !descending);
+    }
+
+    /**
+     * Retrieves the page of courses that follows a keyset cursor, in ascending order.
+     * Deep pages seek on (sort key, ID) rather than skipping rows with an offset.
+     * 
+     * @param size       the page size, capped at 100.
+     * @param sort       the sort key: "price", "type" or "id".
+     * @param afterValue the sort key value of the last course already returned, or null for the first page.
+     * @param afterId    the ID of the last course already returned, or null for the first page.
+     * @param courseType the course type to match, or null for any.
+     * @param minPrice   the lowest price to include, or null.
+     * @param maxPrice   the highest price to include, or null.
+     * @return the requested page.
+     * @throws InvalidRequestException if the size, sort key or cursor is invalid.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CoursePageDTO getCoursesAfter(int size, String sort, String afterValue, Long afterId,
+            String courseType, Double minPrice, Double maxPrice) {
+        String property = sortProperty(sort);
+        Pageable limit = PageRequest.of(0, checkSize(size));
+        Slice<Course> slice;
+        if (afterId == null) {
+            slice = courseRepo.findFiltered(courseType, minPrice, maxPrice,
+                    PageRequest.of(0, limit.getPageSize(), Sort.by(property).and(Sort.by(COURSE_ID))));
+        } else if (COURSE_ID.equals(property)) {
+            slice = courseRepo.findAfterId(courseType, minPrice, maxPrice, afterId, limit);
+        } else if (afterValue == null) {
+            throw new InvalidRequestException("afterValue is required with afterId when sorting by " + sort + ".");
+        } else if ("coursePrice".equals(property)) {
+            slice = courseRepo.findAfterPrice(courseType, minPrice, maxPrice, parsePrice(afterValue), afterId, limit);
+        } else {
+            slice = courseRepo.findAfterType(courseType, minPrice, maxPrice, afterValue, afterId, limit);
+        }
+        return toPage(slice, -1, sort, true);
+    }
+
+    /**
+     * Searches courses by type and details using the in-memory search index.
+     * 
+     * @param query free text to search for.
+     * @param limit the maximum number of results, capped at 100.
+     * @return the matching courses, best first.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Course> searchCourses(String query, int limit) {
+        return resolve(searchIndex.search(query, checkSize(limit)));
+    }
+
+    /**
+     * Suggests courses for a partially typed search term using the autocomplete trie.
+     * 
+     * @param prefix the text typed so far.
+     * @param limit  the maximum number of suggestions, capped at 100.
+     * @return the suggested courses, best first.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Course> suggestCourses(String prefix, int limit) {
+        return resolve(autocompleteTrie.suggest(prefix, checkSize(limit)));
+    }
+
+    /**
+     * Looks up the courses returned by a search index, in the order given, from the
+     * catalog cache and then the database in one query for the rest, so their
+     * ratings are current. Courses deleted since they were indexed are skipped.
+     */
+    private List<Course> resolve(List<Long> courseIds) {
+        Map<Long, Course> byId = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long courseId : courseIds) {
+            Course cached = catalogCache.get(courseId);
+            if (cached != null) {
+                byId.put(courseId, cached);
+            } else {
+                missing.add(courseId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Course course : courseRepo.findAllById(missing)) {
+                byId.put(course.getCourseId(), course);
+            }
+        }
+        List<Course> courses = new ArrayList<>(courseIds.size());
+        for (Long courseId : courseIds) {
+            Course course = byId.get(courseId);
+            if (course != null) {
+                courses.add(course);
+            }
+        }
+        return courses;
+    }
+
+    private static String sortProperty(String sort) {
+        if (sort == null || sort.equals("id")) {
+            return COURSE_ID;
+        }
+        if (sort.equals("price")) {
+            return "coursePrice";
+        }
+        if (sort.equals("type")) {
+            return "courseType";
+        }
+        throw new InvalidRequestException("Unsupported sort key: " + sort);
+    }
+
+    private static int checkSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        return size;
+    }
+
+    private static double parsePrice(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Invalid price cursor: " + value);
+        }
+    }
+
+    private static CoursePageDTO toPage(Slice<Course> slice, int page, String sort, boolean withCursor) {
+        List<Course> content = slice.getContent();
+        if (!withCursor || !slice.hasNext() || content.isEmpty()) {
+            return new CoursePageDTO(content, page, slice.getSize(), slice.hasNext(), null, null);
+        }
+        Course last = content.get(content.size() - 1);
+        String property = sortProperty(sort);
+        String afterValue;
+        if ("coursePrice".equals(property)) {
+            afterValue = String.valueOf(last.getCoursePrice());
+        } else if ("courseType".equals(property)) {
+            afterValue = last.getCourseType();
+        } else {
+            afterValue = String.valueOf(last.getCourseId());
+        }
+        return new CoursePageDTO(content, page, slice.getSize(), true, afterValue, last.getCourseId());
+    }
+
+    /**
+     * Drops the catalog cache and re-indexes a course for search and autocomplete
+     * once the transaction that wrote it commits, so concurrent readers cannot
+     * reload the old rows into a fresh cache and a rollback leaves the indexes
+     * untouched. Runs immediately outside a transaction.
+     */
+    private void refreshAfterCommit(Course course) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(course);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh(course);
+            }
+        });
+    }
+
+    private void refresh(Course course) {
+        catalogCache.invalidate();
+        searchIndex.index(course);
+        autocompleteTrie.index(course);
+    }
 }
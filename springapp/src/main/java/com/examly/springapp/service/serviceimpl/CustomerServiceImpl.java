@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.examly.springapp.model.Customer;
 import com.examly.springapp.repository.CustomerRepo;
@@ -53,6 +54,7 @@ public class CustomerServiceImpl implements CustomerService {
      *                                 found.
      */
     @Override
+    @Transactional(readOnly = true)
     public Customer getCustomerById(long customerId) {
         Optional<Customer> foundCustomer = customerRepo.findById(customerId);
         if (foundCustomer.isPresent()) {
@@ -69,6 +71,7 @@ public class CustomerServiceImpl implements CustomerService {
      * @throw EntityNotFoundException if the Customer with userId not found.
      */
     @Override
+    @Transactional(readOnly = true)
     public Customer getCustomerByUserId(long userId) {
         Optional<Customer> foundCustomer = customerRepo.getCustomerByUserId(userId);
         if (foundCustomer.isPresent()) {
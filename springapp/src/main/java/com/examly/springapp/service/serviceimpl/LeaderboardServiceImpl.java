@@ -0,0 +1,90 @@
+package com.examly.springapp.service.serviceimpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.stereotype.Service;
+
+import com.examly.springapp.exception.InvalidRequestException;
+import com.examly.springapp.model.CourseRankDTO;
+import com.examly.springapp.ranking.CourseLeaderboard;
+import com.examly.springapp.ranking.RankedCourse;
+import com.examly.springapp.service.CourseService;
+import com.examly.springapp.service.LeaderboardService;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Service implementation for the course leaderboards.
+ * 
+ * Annotated with `@Service` to indicate it's a Spring service class.
+ * Rankings come from `CourseLeaderboard` and courses from the catalog cache, so
+ * a leaderboard is served without querying orders or reviews.
+ * 
+ * @author Shantanu
+ */
+@Service
+public class LeaderboardServiceImpl implements LeaderboardService {
+
+    private final CourseLeaderboard leaderboard;
+    private final CourseService courseService;
+
+    /**
+     * Constructor to inject the necessary beans.
+     * 
+     * @param leaderboard   the in-memory rankings.
+     * @param courseService the service resolving ranked course IDs to courses.
+     */
+    public LeaderboardServiceImpl(CourseLeaderboard leaderboard, CourseService courseService) {
+        this.leaderboard = leaderboard;
+        this.courseService = courseService;
+    }
+
+    /**
+     * Retrieves the best-selling courses of a time window.
+     * 
+     * @param window the window to rank sales in: `day`, `week` or `month`.
+     * @param limit  the maximum number of courses to return.
+     * @return the ranked courses, best first; the score is the number of sales.
+     * @throws InvalidRequestException if the window is not recognised.
+     */
+    @Override
+    public List<CourseRankDTO> getBestsellers(String window, int limit) {
+        CourseLeaderboard.Window parsed;
+        try {
+            parsed = CourseLeaderboard.Window.valueOf(window.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Window Must Be day, week Or month.");
+        }
+        return toCourses(leaderboard.topSelling(parsed, limit));
+    }
+
+    /**
+     * Retrieves the highest-rated courses.
+     * 
+     * @param limit the maximum number of courses to return.
+     * @return the ranked courses, best first; the score is the average rating.
+     */
+    @Override
+    public List<CourseRankDTO> getTopRated(int limit) {
+        return toCourses(leaderboard.topRated(limit));
+    }
+
+    /**
+     * Resolves ranked course IDs to courses, skipping courses deleted since they
+     * were ranked.
+     */
+    private List<CourseRankDTO> toCourses(List<RankedCourse> ranking) {
+        List<CourseRankDTO> courses = new ArrayList<>(ranking.size());
+        for (RankedCourse ranked : ranking) {
+            try {
+                courses.add(new CourseRankDTO(courses.size() + 1, courseService.getCourseById(ranked.getCourseId()),
+                        ranked.getScore()));
+            } catch (EntityNotFoundException e) {
+                // the course was deleted; its sales and ratings go with the next rebuild
+            }
+        }
+        return courses;
+    }
+}
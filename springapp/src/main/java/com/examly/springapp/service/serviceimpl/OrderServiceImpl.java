@@ -1,17 +1,53 @@
 package com.examly.springapp.service.serviceimpl;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.examly.springapp.cache.IdempotencyStore;
+import com.examly.springapp.config.OptimisticRetry;
+import com.examly.springapp.exception.EmptyCartException;
+import com.examly.springapp.exception.InvalidRequestException;
 import com.examly.springapp.exception.NoContentException;
+import com.examly.springapp.model.Cart;
+import com.examly.springapp.model.Course;
+import com.examly.springapp.model.Customer;
+import com.examly.springapp.model.OrderCourseDTO;
+import com.examly.springapp.model.OrderSummaryDTO;
 import com.examly.springapp.model.Orders;
+import com.examly.springapp.ranking.CoPurchaseIndex;
+import com.examly.springapp.ranking.CourseLeaderboard;
+import com.examly.springapp.repository.CartRepo;
 import com.examly.springapp.repository.OrderRepo;
 import com.examly.springapp.service.OrderService;
+import com.examly.springapp.service.SalesAnalyticsService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import jakarta.persistence.EntityExistsException;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 
 /**
  * Service implementation for managing order-related operations.
@@ -26,31 +62,83 @@ public class OrderServiceImpl implements OrderService {
 
     @Autowired
     private OrderRepo orderRepo;
+    @Autowired
+    private CartRepo cartRepo;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+    @Autowired
+    private OptimisticRetry optimisticRetry;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private CourseLeaderboard leaderboard;
+    @Autowired
+    private CoPurchaseIndex coPurchaseIndex;
+    @Autowired
+    private SalesAnalyticsService salesAnalyticsService;
+    @PersistenceContext
+    private EntityManager entityManager;
     private static final String  ORDER_NOT_FOUND = "ORDER NOT FOUND WITH ID: ";
+    private static final String CHECKOUT_STATUS = "pending";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 128;
+    private static final String INSERT_ORDER_COURSE =
+            "INSERT INTO order_course (order_id, course_id, unit_price, course_type) VALUES (?, ?, ?, ?)";
+    private static final String CSV_HEADER = "orderId,status,orderPrice,customerId,customerName,email,courseIds";
 
     /**
-     * Adds a new order to the system.
+     * Adds a new order to the system and to the sales rollups, recording the price
+     * and type each course is sold at on its line. Its courses count
+     * towards the bestseller leaderboard and the bought-together recommendations
+     * once the order is committed.
      * 
      * @param newOrder the new order entity to be added.
      * @return the saved order entity.
      * @throws EntityExistsException if an order with the same ID already exists.
      */
     @Override
+    @Transactional
     public Orders addOrder(Orders newOrder) {
         long orderId = newOrder.getOrderId();
         Optional<Orders> foundOrder = orderRepo.findById(orderId);
         if (!foundOrder.isPresent()) {
-            return orderRepo.save(newOrder);
+            Orders saved = orderRepo.saveAndFlush(newOrder);
+            orderRepo.recordLinePrices(saved.getOrderId());
+            List<Long> courseIds = courseIds(saved);
+            leaderboard.recordOrder(saved.getOrderId(), courseIds, saved.getCreatedAt());
+            coPurchaseIndex.recordOrder(saved.getOrderId(), courseIds);
+            salesAnalyticsService.recordOrder(saved);
+            return saved;
         }
         throw new EntityExistsException("Order with ID: " + orderId + " already present.");
     }
 
+    /**
+     * Adds a new order at most once per idempotency key. A retried request with the
+     * same key and body gets the stored order back without another insert.
+     * 
+     * @param newOrder       the new order entity to be added.
+     * @param idempotencyKey the `Idempotency-Key` sent by the client, or null.
+     * @return the saved order entity, or the one saved by the first request.
+     * @throws InvalidRequestException if the key was used for a different request.
+     */
+    @Override
+    @Transactional
+    public Orders addOrder(Orders newOrder, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return addOrder(newOrder);
+        }
+        return idempotent(idempotencyKey, "order:" + toJson(newOrder), Orders.class, () -> addOrder(newOrder));
+    }
+
     /**
      * Retrieves a list of all orders.
      * 
      * @return a list of all order entities.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Orders> getAllOrders() {  
         List<Orders>  orders = orderRepo.findAll();
         if(orders.isEmpty()){
@@ -67,6 +155,7 @@ public class OrderServiceImpl implements OrderService {
      * @throws EntityNotFoundException if the order with the given ID is not found.
      */
     @Override
+    @Transactional(readOnly = true)
     public Orders getOrderById(long orderId) {
         Optional<Orders> foundOrder = orderRepo.findById(orderId); 
         if (foundOrder.isPresent()) { 
@@ -83,6 +172,7 @@ public class OrderServiceImpl implements OrderService {
      * @throws EntityNotFoundException if the customer with the given ID is not found.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Orders> getOrderByCustomerId(long customerId) {
         List<Orders> foundOrders = orderRepo.findByCustomerId(customerId); 
         if (foundOrders.isEmpty()) { 
@@ -92,29 +182,298 @@ public class OrderServiceImpl implements OrderService {
     }
 
     /**
-     * Deletes an order by its ID.
+     * Deletes an order by its ID and takes it out of the sales rollups. Its sales
+     * leave the bestseller leaderboard and the bought-together recommendations
+     * once the deletion is committed.
      * 
      * @param orderId the ID of the order to be deleted.
      * @return true if the order was successfully deleted.
      * @throws EntityNotFoundException if the order with the given ID is not found.
      */
     @Override
+    @Transactional
     public boolean deleteOrder(long orderId) {
         Optional<Orders> foundOrder = orderRepo.findById(orderId);
         if (foundOrder.isPresent()) {   
+            List<Long> courseIds = courseIds(foundOrder.get());
+            leaderboard.removeOrder(orderId, courseIds, foundOrder.get().getCreatedAt());
+            coPurchaseIndex.removeOrder(orderId, courseIds);
+            salesAnalyticsService.removeOrder(foundOrder.get());
             orderRepo.deleteById(orderId);  
             return true;
         }
         throw new EntityNotFoundException(ORDER_NOT_FOUND + orderId  );       
     }       
 
+    /**
+     * Updates the status of an order and moves it between the sales rollups of the
+     * old and new status. The versioned update fails if another writer changed the
+     * order first, in which case it is retried on the fresh order.
+     * 
+     * @param orderId the ID of the order.
+     * @param status  the new status.
+     * @return the updated order entity, or null if the order is not found.
+     */
+    @Override
     public Orders updateOrderStatus(long orderId, String status) {
-        Optional<Orders> orderOptional = orderRepo.findById(orderId);
-        if (orderOptional.isPresent()) {
-            Orders order = orderOptional.get();
-            order.setStatus(status);
-            return orderRepo.save(order);
+        return optimisticRetry.execute(() -> {
+            Optional<Orders> orderOptional = orderRepo.findById(orderId);
+            if (orderOptional.isPresent()) {
+                Orders order = orderOptional.get();
+                String oldStatus = order.getStatus();
+                order.setStatus(status);
+                Orders saved = orderRepo.saveAndFlush(order);
+                salesAnalyticsService.changeStatus(saved, oldStatus);
+                return saved;
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Retrieves the admin listing of all orders with only the displayed columns.
+     * Issues two column-only queries, one for orders and one for their course lines,
+     * regardless of the number of orders.
+     * 
+     * @return a list of order summaries.
+     * @throws NoContentException if there are no orders.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderSummaryDTO> getOrderSummaries() {
+        List<OrderSummaryDTO> summaries = orderRepo.findOrderSummaries();
+        if (summaries.isEmpty()) {
+            throw new NoContentException("No Orders Found");
+        }
+        Map<Long, OrderSummaryDTO> byId = new HashMap<>();
+        for (OrderSummaryDTO summary : summaries) {
+            byId.put(summary.getOrderId(), summary);
+        }
+        for (OrderCourseDTO line : orderRepo.findOrderCourseLines()) {
+            OrderSummaryDTO summary = byId.get(line.getOrderId());
+            if (summary != null) {
+                summary.getCourses().add(line);
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * Places an order for every course in the user's cart and empties the cart in
+     * one transaction. The order row is inserted through JPA, its `order_course`
+     * rows with the price and type each course is sold at in a single JDBC batch,
+     * and the cart is emptied with one DELETE.
+     * 
+     * @param userId the ID of the user checking out.
+     * @return the summary of the created order.
+     * @throws EntityNotFoundException if the user has no cart.
+     * @throws EmptyCartException if the cart has no courses.
+     * @throws EntityExistsException if the cart was checked out or changed concurrently.
+     */
+    @Override
+    @Transactional
+    public OrderSummaryDTO checkout(long userId) {
+        Optional<Cart> foundCart = cartRepo.findByUserId(userId);
+        if (!foundCart.isPresent()) {
+            throw new EntityNotFoundException("Cart Of User Not Found with ID: " + userId);
+        }
+        Cart cart = foundCart.get();
+        List<Course> courses = new ArrayList<>(cart.getCourses());
+        if (courses.isEmpty()) {
+            throw new EmptyCartException("Cart Is Empty.");
+        }
+        Customer customer = cart.getCustomer();
+
+        Orders order = new Orders(0, cart.getTotalAmount(), new ArrayList<>(), customer, CHECKOUT_STATUS);
+        long orderId = orderRepo.saveAndFlush(order).getOrderId();
+        jdbcTemplate.batchUpdate(INSERT_ORDER_COURSE, courses, courses.size(),
+                (ps, course) -> {
+                    ps.setLong(1, orderId);
+                    ps.setLong(2, course.getCourseId());
+                    ps.setDouble(3, course.getCoursePrice());
+                    ps.setString(4, course.getCourseType());
+                });
+        // fewer rows means another checkout emptied the cart, more means a course was added after
+        // the read and was never ordered; either way the transaction rolls back and the cart is kept
+        if (cartRepo.deleteAllCourses(cart.getCartId()) != courses.size()) {
+            throw new EntityExistsException("Cart Of User With ID: " + userId + " Changed During Checkout.");
+        }
+        cartRepo.clearTotal(cart.getCartId());
+        entityManager.detach(order);
+        entityManager.detach(cart);
+        List<Long> courseIds = new ArrayList<>(courses.size());
+        for (Course course : courses) {
+            courseIds.add(course.getCourseId());
         }
-        return null;
+        leaderboard.recordOrder(orderId, courseIds, order.getCreatedAt());
+        coPurchaseIndex.recordOrder(orderId, courseIds);
+        salesAnalyticsService.recordOrder(order);
+
+        OrderSummaryDTO summary = new OrderSummaryDTO(orderId, order.getOrderPrice(), CHECKOUT_STATUS,
+                customer.getCustomerName(), customer.getUser().getEmail());
+        for (Course course : courses) {
+            summary.getCourses().add(new OrderCourseDTO(orderId, course.getCourseId(), course.getCourseType(),
+                    course.getCourseDetails(), course.getCoursePrice()));
+        }
+        return summary;
+    }
+
+    /**
+     * Checks out the user's cart at most once per idempotency key. A retried request
+     * with the same key gets the stored order summary back without another checkout.
+     * 
+     * @param userId         the ID of the user checking out.
+     * @param idempotencyKey the `Idempotency-Key` sent by the client, or null.
+     * @return the summary of the created order, or the one created by the first request.
+     * @throws InvalidRequestException if the key was used for a different request.
+     */
+    @Override
+    @Transactional
+    public OrderSummaryDTO checkout(long userId, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return checkout(userId);
+        }
+        return idempotent(idempotencyKey, "checkout:" + userId, OrderSummaryDTO.class, () -> checkout(userId));
+    }
+
+    /**
+     * Writes every order as newline-delimited JSON, one order per line.
+     * Orders are read from a database cursor and detached once written, so memory
+     * use does not grow with the number of orders.
+     * 
+     * @param out the stream to write to.
+     * @return the number of orders written.
+     * @throws IOException if writing to the stream fails.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long streamOrdersAsJson(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long count = streamOrders(order -> {
+            writer.writeValue(out, order);
+            out.write('\n');
+        });
+        out.flush();
+        return count;
+    }
+
+    /**
+     * Writes every order as CSV with a header row, listing course IDs separated by `;`.
+     * Orders are read from a database cursor and detached once written, so memory
+     * use does not grow with the number of orders.
+     * 
+     * @param out the stream to write to.
+     * @return the number of orders written.
+     * @throws IOException if writing to the stream fails.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long streamOrdersAsCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long count = streamOrders(order -> {
+            Customer customer = order.getCustomer();
+            StringBuilder courseIds = new StringBuilder();
+            for (Course course : order.getCourses()) {
+                if (courseIds.length() > 0) {
+                    courseIds.append(';');
+                }
+                courseIds.append(course.getCourseId());
+            }
+            writer.write(order.getOrderId() + "," + csv(order.getStatus()) + "," + order.getOrderPrice() + ","
+                    + customer.getCustomerId() + "," + csv(customer.getCustomerName()) + ","
+                    + csv(customer.getUser().getEmail()) + "," + courseIds + "\n");
+        });
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Hands each order to the given writer, then detaches it and its customer so
+     * the persistence context stays small while the cursor advances.
+     */
+    private long streamOrders(OrderWriter writer) throws IOException {
+        long count = 0;
+        try (Stream<Orders> orders = orderRepo.streamAll()) {
+            Iterator<Orders> it = orders.iterator();
+            while (it.hasNext()) {
+                Orders order = it.next();
+                writer.write(order);
+                entityManager.detach(order);
+                entityManager.detach(order.getCustomer());
+                entityManager.detach(order.getCustomer().getUser());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the stored response for the key if there is one, otherwise runs the
+     * action and stores its result under the key in the same transaction.
+     */
+    private <T> T idempotent(String key, String request, Class<T> type, Supplier<T> action) {
+        if (key.isBlank() || key.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new InvalidRequestException("Idempotency-Key must be 1 to " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters.");
+        }
+        String requestHash = sha256(request);
+        IdempotencyStore.StoredResponse stored = idempotencyStore.find(key);
+        if (stored != null) {
+            if (!stored.getRequestHash().equals(requestHash)) {
+                throw new InvalidRequestException("Idempotency-Key " + key + " Was Used For A Different Request.");
+            }
+            try {
+                return objectMapper.readValue(stored.getResponseBody(), type);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Stored response for Idempotency-Key " + key + " is unreadable", e);
+            }
+        }
+        T result = action.get();
+        idempotencyStore.save(key, requestHash, toJson(result));
+        return result;
+    }
+
+    private static List<Long> courseIds(Orders order) {
+        List<Long> courseIds = new ArrayList<>(order.getCourses().size());
+        for (Course course : order.getCourses()) {
+            courseIds.add(course.getCourseId());
+        }
+        return courseIds;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Writes one streamed order.
+     */
+    @FunctionalInterface
+    private interface OrderWriter {
+        void write(Orders order) throws IOException;
     }
-}
\ No newline at end of file
+}
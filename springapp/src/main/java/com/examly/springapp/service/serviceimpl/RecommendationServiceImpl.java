@@ -0,0 +1,76 @@
+package com.examly.springapp.service.serviceimpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.examly.springapp.model.CourseRankDTO;
+import com.examly.springapp.ranking.CoPurchaseIndex;
+import com.examly.springapp.ranking.RankedCourse;
+import com.examly.springapp.service.CourseService;
+import com.examly.springapp.service.RecommendationService;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Service implementation for "customers who bought this also bought"
+ * recommendations.
+ * 
+ * Annotated with `@Service` to indicate it's a Spring service class.
+ * Recommendations come from `CoPurchaseIndex` and courses from the catalog
+ * cache, so no order is read to answer a request.
+ * 
+ * @author Shantanu
+ */
+@Service
+public class RecommendationServiceImpl implements RecommendationService {
+
+    private final CoPurchaseIndex coPurchaseIndex;
+    private final CourseService courseService;
+
+    /**
+     * Constructor to inject the necessary beans.
+     * 
+     * @param coPurchaseIndex the in-memory index of courses bought together.
+     * @param courseService   the service resolving course IDs to courses.
+     */
+    public RecommendationServiceImpl(CoPurchaseIndex coPurchaseIndex, CourseService courseService) {
+        this.coPurchaseIndex = coPurchaseIndex;
+        this.courseService = courseService;
+    }
+
+    /**
+     * Retrieves the courses most often bought together with a course.
+     * 
+     * @param courseId the ID of the course.
+     * @param limit    the maximum number of courses to return.
+     * @return the recommended courses, best first; the score is the number of shared orders.
+     * @throws EntityNotFoundException if the course does not exist.
+     */
+    @Override
+    public List<CourseRankDTO> getAlsoBought(long courseId, int limit) {
+        courseService.getCourseById(courseId);
+        List<RankedCourse> ranking = coPurchaseIndex.alsoBought(courseId, limit);
+        List<CourseRankDTO> courses = new ArrayList<>(ranking.size());
+        for (RankedCourse ranked : ranking) {
+            try {
+                courses.add(new CourseRankDTO(courses.size() + 1, courseService.getCourseById(ranked.getCourseId()),
+                        ranked.getScore()));
+            } catch (EntityNotFoundException e) {
+                // the course was deleted after it was bought
+            }
+        }
+        return courses;
+    }
+
+    /**
+     * Rebuilds the recommendations from the whole order history.
+     * 
+     * @return the number of orders read.
+     */
+    @Override
+    public int rebuild() {
+        return coPurchaseIndex.rebuild();
+    }
+}
@@ -5,13 +5,24 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.examly.springapp.cache.CourseCatalogCache;
+import com.examly.springapp.exception.InvalidRequestException;
 import com.examly.springapp.exception.NoContentException;
+import com.examly.springapp.model.Course;
+import com.examly.springapp.model.CourseRating;
 import com.examly.springapp.model.Review;
+import com.examly.springapp.model.ReviewSummaryDTO;
+import com.examly.springapp.ranking.CourseLeaderboard;
+import com.examly.springapp.repository.CourseRatingRepo;
 import com.examly.springapp.repository.ReviewRepo;
 import com.examly.springapp.service.ReviewService;
 
 import jakarta.persistence.EntityExistsException;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityNotFoundException;
 
 /**
@@ -26,46 +37,83 @@ import jakarta.persistence.EntityNotFoundException;
 public class ReviewServiceImpl implements ReviewService {
 
     private final ReviewRepo reviewRepo;
+    private final CourseRatingRepo courseRatingRepo;
+    private final CourseCatalogCache catalogCache;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CourseLeaderboard leaderboard;
     private static final String REVIEW_NOT_FOUND = "REVIEW NOT FOUND WITH ID: ";
+    private static final String COURSE_NOT_FOUND = "COURSE NOT FOUND WITH ID: ";
 
     /**
-     * Constructor to inject the `ReviewRepo` bean.
+     * Constructor to inject the necessary beans.
      * 
-     * @param reviewRepo the repository for managing `Review` entity data access.
+     * @param reviewRepo           the repository for managing `Review` entity data access.
+     * @param courseRatingRepo     the repository for the per-course rating aggregates.
+     * @param catalogCache         the catalog cache holding the ratings shown in the catalog.
+     * @param entityManagerFactory the factory whose second-level cache holds rated courses.
+     * @param leaderboard          the top-rated leaderboard fed by review writes.
      */
-    public ReviewServiceImpl(ReviewRepo reviewRepo) {
+    public ReviewServiceImpl(ReviewRepo reviewRepo, CourseRatingRepo courseRatingRepo,
+            CourseCatalogCache catalogCache, EntityManagerFactory entityManagerFactory,
+            CourseLeaderboard leaderboard) {
         this.reviewRepo = reviewRepo;
+        this.courseRatingRepo = courseRatingRepo;
+        this.catalogCache = catalogCache;
+        this.entityManagerFactory = entityManagerFactory;
+        this.leaderboard = leaderboard;
     }
 
     /**
-     * Creates a new review.
+     * Creates a new review. If it names a course, the course's rating aggregate is
+     * adjusted in the same transaction.
      * 
      * @param review the new review entity to be created.
      * @return the saved review entity.
      * @throws EntityExistsException if a review with the same ID already exists.
+     * @throws InvalidRequestException if a course review's rating is not from 1 to 5.
+     * @throws EntityNotFoundException if the reviewed course does not exist.
      */
     @Override
+    @Transactional
     public Review createReview(Review review) {
         long id = review.getReviewId();
         Optional<Review> foundReview = reviewRepo.findById(id);
         if (foundReview.isPresent()) {
             throw new EntityExistsException(REVIEW_NOT_FOUND+ id );
         }
+        Course course = review.getCourse();
+        if (course != null) {
+            if (review.getRating() < 1 || review.getRating() > 5) {
+                throw new InvalidRequestException("Rating Must Be From 1 To 5.");
+            }
+            if (courseRatingRepo.addRating(course.getCourseId(), review.getRating()) == 0) {
+                throw new EntityNotFoundException(COURSE_NOT_FOUND + course.getCourseId());
+            }
+            refreshCourseAfterCommit(course.getCourseId());
+            leaderboard.recordRating(course.getCourseId(), review.getRating());
+        }
         return reviewRepo.save(review);
     }
 
     /**
-     * Deletes a review by its ID.
+     * Deletes a review by its ID, taking its rating out of the course's aggregate
+     * in the same transaction.
      * 
      * @param reviewId the ID of the review to be deleted.
      * @return true if the review was successfully deleted.
      * @throws EntityNotFoundException if the review with the given ID is not found.
      */
     @Override
+    @Transactional
     public boolean deleteReview(long reviewId) {
         Optional<Review> foundReview = reviewRepo.findById(reviewId);
-        if (foundReview.isPresent()) {
-            reviewRepo.deleteById(reviewId);
+        if (foundReview.isPresent() && reviewRepo.deleteReview(reviewId) == 1) {
+            Course course = foundReview.get().getCourse();
+            if (course != null) {
+                courseRatingRepo.removeRating(course.getCourseId(), foundReview.get().getRating());
+                refreshCourseAfterCommit(course.getCourseId());
+                leaderboard.removeRating(course.getCourseId(), foundReview.get().getRating());
+            }
             return true;
         }
         throw new EntityNotFoundException(REVIEW_NOT_FOUND + reviewId);
@@ -77,6 +125,7 @@ public class ReviewServiceImpl implements ReviewService {
      * @return a list of all review entities.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Review> getAllReviews() {
         List<Review> reviews = reviewRepo.findAll();
         if(reviews.isEmpty()){
@@ -93,6 +142,7 @@ public class ReviewServiceImpl implements ReviewService {
      * @throws EntityNotFoundException if the review with the given ID is not found.
      */
     @Override
+    @Transactional(readOnly = true)
     public Review getReviewById(long reviewId) {
         Optional<Review> review = reviewRepo.findById(reviewId);
         if (review.isPresent()) {
@@ -108,6 +158,7 @@ public class ReviewServiceImpl implements ReviewService {
      * @return a list of reviews associated with the user.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Review> getReviewsByUserId(long userId) {
         List<Review> reviews = reviewRepo.findByUserId(userId);
         if (reviews.isEmpty()) {
@@ -115,4 +166,63 @@ public class ReviewServiceImpl implements ReviewService {
         }
         return reviews;
     }
+
+    /**
+     * Retrieves the admin listing of all reviews with only the displayed columns.
+     * 
+     * @return a list of review summaries.
+     * @throws NoContentException if there are no reviews.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReviewSummaryDTO> getReviewSummaries() {
+        List<ReviewSummaryDTO> reviews = reviewRepo.findReviewSummaries();
+        if (reviews.isEmpty()) {
+            throw new NoContentException("No Reviews Found");
+        }
+        return reviews;
+    }
+
+    /**
+     * Retrieves the reviews of a course.
+     * 
+     * @param courseId the ID of the course.
+     * @return a list of reviews of the course.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Review> getReviewsByCourseId(long courseId) {
+        return reviewRepo.findByCourseId(courseId);
+    }
+
+    /**
+     * Retrieves the rating aggregate of a course.
+     * 
+     * @param courseId the ID of the course.
+     * @return the rating count, average and star histogram of the course.
+     * @throws EntityNotFoundException if the course does not exist.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CourseRating getCourseRating(long courseId) {
+        Optional<CourseRating> rating = courseRatingRepo.findById(courseId);
+        if (rating.isPresent()) {
+            return rating.get();
+        }
+        throw new EntityNotFoundException(COURSE_NOT_FOUND + courseId);
+    }
+
+    /**
+     * Drops the cached copies of a course once the transaction that changed its
+     * rating commits, so the catalog and course detail show the new average.
+     */
+    private void refreshCourseAfterCommit(long courseId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(Course.class, courseId);
+                catalogCache.invalidate();
+            }
+        });
+    }
 }
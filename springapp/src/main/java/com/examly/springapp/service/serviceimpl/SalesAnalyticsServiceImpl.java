@@ -0,0 +1,227 @@
+package com.examly.springapp.service.serviceimpl;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.examly.springapp.exception.InvalidRequestException;
+import com.examly.springapp.model.CourseTypeRollup;
+import com.examly.springapp.model.CourseTypeSalesDTO;
+import com.examly.springapp.model.OrderRollup;
+import com.examly.springapp.model.Orders;
+import com.examly.springapp.model.SalesPeriodDTO;
+import com.examly.springapp.model.SalesReportDTO;
+import com.examly.springapp.repository.CourseTypeRollupRepo;
+import com.examly.springapp.repository.OrderRollupRepo;
+import com.examly.springapp.service.SalesAnalyticsService;
+
+/**
+ * Service implementation for the admin sales reports.
+ * 
+ * Annotated with `@Service` to indicate it's a Spring service class.
+ * Order writes adjust daily rollups per status and per course type with
+ * single upserts in the writing transaction; reports add up the daily rows of
+ * the requested range, so their cost depends on the range, not on the number
+ * of orders. Course type sales use the price and type recorded on each order
+ * line, so repricing a course never changes them. Days are counted in the
+ * configured `analytics.sales.zone`, the same zone the V5 backfill uses. Orders
+ * placed before `createdAt` was recorded are not rolled up.
+ * 
+ * @author Shantanu
+ */
+@Service
+public class SalesAnalyticsServiceImpl implements SalesAnalyticsService {
+
+    private static final String NONE = "";
+
+    @Autowired
+    private OrderRollupRepo orderRollupRepo;
+    @Autowired
+    private CourseTypeRollupRepo courseTypeRollupRepo;
+    @Value("${analytics.sales.max-days:1100}")
+    private int maxDays;
+    @Value("${analytics.sales.zone:UTC}")
+    private ZoneId zone;
+
+    /**
+     * Length of the periods of a report.
+     */
+    private enum Granularity {
+        DAY, WEEK, MONTH;
+
+        LocalDate periodStart(LocalDate day) {
+            switch (this) {
+                case WEEK:
+                    return day.with(DayOfWeek.MONDAY);
+                case MONTH:
+                    return day.withDayOfMonth(1);
+                default:
+                    return day;
+            }
+        }
+
+        LocalDate nextPeriod(LocalDate periodStart) {
+            switch (this) {
+                case WEEK:
+                    return periodStart.plusWeeks(1);
+                case MONTH:
+                    return periodStart.plusMonths(1);
+                default:
+                    return periodStart.plusDays(1);
+            }
+        }
+
+        LocalDate defaultFrom(LocalDate to) {
+            switch (this) {
+                case WEEK:
+                    return periodStart(to).minusWeeks(11);
+                case MONTH:
+                    return periodStart(to).minusMonths(11);
+                default:
+                    return to.minusDays(29);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the order count and revenue per period and the course sales per
+     * course type over a range of days.
+     * 
+     * @param granularity the length of each period: `day`, `week` or `month`.
+     * @param from        the first day, or null for the last 30 days, 12 weeks or 12 months.
+     * @param to          the last day, or null for today.
+     * @param status      the order status to report on, or null for every status.
+     * @return the sales report.
+     * @throws InvalidRequestException if the granularity is not recognised, or the
+     *                                  range is reversed or longer than the configured maximum.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SalesReportDTO getSalesReport(String granularity, LocalDate from, LocalDate to, String status) {
+        Granularity parsed;
+        try {
+            parsed = Granularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Granularity Must Be day, week Or month.");
+        }
+        LocalDate last = to != null ? to : LocalDate.now(zone);
+        LocalDate first = from != null ? from : parsed.defaultFrom(last);
+        if (first.isAfter(last) || ChronoUnit.DAYS.between(first, last) >= maxDays) {
+            throw new InvalidRequestException("Range Must Be 1 To " + maxDays + " Days.");
+        }
+
+        Map<LocalDate, double[]> periods = new TreeMap<>();
+        for (LocalDate period = parsed.periodStart(first); !period.isAfter(last); period = parsed.nextPeriod(period)) {
+            periods.put(period, new double[2]);
+        }
+        long orderCount = 0;
+        double revenue = 0;
+        for (OrderRollup rollup : orderRollupRepo.findBySalesDateBetween(first, last)) {
+            if (status == null || status.equals(rollup.getStatus())) {
+                double[] period = periods.get(parsed.periodStart(rollup.getSalesDate()));
+                period[0] += rollup.getOrderCount();
+                period[1] += rollup.getRevenue();
+                orderCount += rollup.getOrderCount();
+                revenue += rollup.getRevenue();
+            }
+        }
+        List<SalesPeriodDTO> periodSales = new ArrayList<>(periods.size());
+        for (Map.Entry<LocalDate, double[]> period : periods.entrySet()) {
+            periodSales.add(new SalesPeriodDTO(period.getKey(), (long) period.getValue()[0], period.getValue()[1]));
+        }
+
+        Map<String, double[]> types = new HashMap<>();
+        for (CourseTypeRollup rollup : courseTypeRollupRepo.findBySalesDateBetween(first, last)) {
+            if ((status == null || status.equals(rollup.getStatus())) && rollup.getSales() != 0) {
+                double[] type = types.computeIfAbsent(rollup.getCourseType(), t -> new double[2]);
+                type[0] += rollup.getSales();
+                type[1] += rollup.getRevenue();
+            }
+        }
+        List<CourseTypeSalesDTO> typeSales = new ArrayList<>(types.size());
+        for (Map.Entry<String, double[]> type : types.entrySet()) {
+            typeSales.add(new CourseTypeSalesDTO(type.getKey(), (long) type.getValue()[0], type.getValue()[1]));
+        }
+        typeSales.sort(Comparator.comparingDouble(CourseTypeSalesDTO::getRevenue).reversed()
+                .thenComparing(CourseTypeSalesDTO::getCourseType));
+
+        return new SalesReportDTO(parsed.name().toLowerCase(Locale.ROOT), first, last, orderCount, revenue,
+                periodSales, typeSales);
+    }
+
+    /**
+     * Adds a new order to the rollups of its day and status, in the current transaction.
+     * 
+     * @param order the saved order, with its lines and their prices already written.
+     */
+    @Override
+    public void recordOrder(Orders order) {
+        apply(order, order.getStatus(), 1);
+    }
+
+    /**
+     * Takes a deleted order out of the rollups of its day and status, in the
+     * current transaction.
+     * 
+     * @param order the order being deleted, before its lines are.
+     */
+    @Override
+    public void removeOrder(Orders order) {
+        apply(order, order.getStatus(), -1);
+    }
+
+    /**
+     * Moves an order from the rollups of its old status to those of its current
+     * one, in the current transaction.
+     * 
+     * @param order     the order with its new status.
+     * @param oldStatus the status the order had before.
+     */
+    @Override
+    public void changeStatus(Orders order, String oldStatus) {
+        if (!Objects.equals(oldStatus, order.getStatus())) {
+            apply(order, oldStatus, -1);
+            apply(order, order.getStatus(), 1);
+        }
+    }
+
+    /**
+     * Adds `sign` times the order, and its lines grouped by the course type and at
+     * the price they were sold at, to the rollups of the order's day and the given status.
+     */
+    private void apply(Orders order, String status, int sign) {
+        if (order.getCreatedAt() == null) {
+            return;
+        }
+        LocalDate day = salesDay(order.getCreatedAt(), zone);
+        String statusKey = status != null ? status : NONE;
+        orderRollupRepo.addOrders(day, statusKey, sign, sign * order.getOrderPrice());
+        courseTypeRollupRepo.addOrderLines(day, statusKey, order.getOrderId(), sign);
+    }
+
+    /**
+     * Returns the day an order placed at the given time is rolled up on.
+     * 
+     * @param createdAt the time the order was placed.
+     * @param zone      the zone the sales days are counted in.
+     * @return the sales day of the order.
+     */
+    public static LocalDate salesDay(Date createdAt, ZoneId zone) {
+        return createdAt.toInstant().atZone(zone).toLocalDate();
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.examly.springapp.config.JwtUtils;
 import com.examly.springapp.config.UserPrinciple;
@@ -84,6 +85,7 @@ public class UserServiceImpl implements UserService, UserDetailsService {
      *                                 invalid.
      */
     @Override
+    @Transactional
     public LoginDTO loginUser(User user) {
         String email = user.getEmail();
         Optional<User> foundUser = userRepo.findByEmail(email);
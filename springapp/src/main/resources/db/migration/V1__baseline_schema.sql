@@ -0,0 +1,86 @@
+-- Schema as previously created by spring.jpa.hibernate.ddl-auto=update.
+-- Databases that already have these tables are baselined at this version and skip it.
+
+create table users (
+    user_id bigint not null,
+    email varchar(255),
+    mobile_number varchar(255),
+    password varchar(255),
+    role varchar(255),
+    username varchar(255),
+    primary key (user_id)
+) engine=InnoDB;
+
+create table customers (
+    customer_id bigint not null,
+    customer_name varchar(255),
+    information varchar(255),
+    user_id bigint,
+    primary key (customer_id)
+) engine=InnoDB;
+
+create table courses (
+    course_id bigint not null,
+    course_details varchar(255),
+    course_image_url varchar(255),
+    course_price float(53) not null,
+    course_type varchar(255),
+    primary key (course_id)
+) engine=InnoDB;
+
+create table carts (
+    cart_id bigint not null,
+    total_amount float(53) not null,
+    customer_id bigint,
+    primary key (cart_id)
+) engine=InnoDB;
+
+create table cart_course (
+    cart_id bigint not null,
+    course_id bigint not null
+) engine=InnoDB;
+
+create table orders (
+    order_id bigint not null,
+    order_price float(53) not null,
+    status varchar(255),
+    customer_id bigint,
+    primary key (order_id)
+) engine=InnoDB;
+
+create table order_course (
+    order_id bigint not null,
+    course_id bigint not null
+) engine=InnoDB;
+
+create table reviews (
+    review_id bigint not null,
+    body varchar(255),
+    date_created datetime(6),
+    rating integer not null,
+    subject varchar(255),
+    customer_id bigint,
+    primary key (review_id)
+) engine=InnoDB;
+
+create table users_seq (next_val bigint) engine=InnoDB;
+insert into users_seq values (1);
+create table customers_seq (next_val bigint) engine=InnoDB;
+insert into customers_seq values (1);
+create table courses_seq (next_val bigint) engine=InnoDB;
+insert into courses_seq values (1);
+create table carts_seq (next_val bigint) engine=InnoDB;
+insert into carts_seq values (1);
+create table orders_seq (next_val bigint) engine=InnoDB;
+insert into orders_seq values (1);
+create table reviews_seq (next_val bigint) engine=InnoDB;
+insert into reviews_seq values (1);
+
+alter table customers add constraint fk_customers_user foreign key (user_id) references users (user_id);
+alter table carts add constraint fk_carts_customer foreign key (customer_id) references customers (customer_id);
+alter table cart_course add constraint fk_cart_course_cart foreign key (cart_id) references carts (cart_id);
+alter table cart_course add constraint fk_cart_course_course foreign key (course_id) references courses (course_id);
+alter table orders add constraint fk_orders_customer foreign key (customer_id) references customers (customer_id);
+alter table order_course add constraint fk_order_course_order foreign key (order_id) references orders (order_id);
+alter table order_course add constraint fk_order_course_course foreign key (course_id) references courses (course_id);
+alter table reviews add constraint fk_reviews_customer foreign key (customer_id) references customers (customer_id);
@@ -0,0 +1,45 @@
+-- Indexes for the lookups the repositories run on every request, and the schema added since the baseline.
+
+-- UserRepo.findByEmail: login and every JWT-authenticated request.
+create unique index uk_users_email on users (email);
+
+-- CustomerRepo.getCustomerByUserId, and the customer -> user hop of ReviewRepo.findByUserId
+-- and CartRepo.findByUserId. A user has at most one customer profile.
+create unique index uk_customers_user_id on customers (user_id);
+
+-- CartRepo.findByCustomerId and findCartIdByCustomerId. A customer has at most one cart.
+create unique index uk_carts_customer_id on carts (customer_id);
+
+-- OrderRepo.findByCustomerId.
+create index idx_orders_customer_id on orders (customer_id);
+
+-- OrderRepo.findByStatus.
+create index idx_orders_status on orders (status);
+
+-- ReviewRepo.findByUserId, after resolving the customer.
+create index idx_reviews_customer_id on reviews (customer_id);
+
+-- Join table lookups in both directions, e.g. CartRepo.repriceCartsContaining and checkout.
+create index idx_cart_course_course_id on cart_course (course_id, cart_id);
+create index idx_cart_course_cart_id on cart_course (cart_id, course_id);
+create index idx_order_course_order_id on order_course (order_id, course_id);
+
+-- CourseServiceImpl seek paging, ordered by price or filtered by type, with the id as tie-breaker.
+create index idx_courses_price_id on courses (course_price, course_id);
+create index idx_courses_type_id on courses (course_type, course_id);
+
+-- Optimistic lock versions for carts and orders; existing rows start at 0.
+alter table carts add column version bigint not null default 0;
+alter table orders add column version bigint not null default 0;
+
+-- Stored responses for requests sent with an Idempotency-Key header, read by IdempotencyStore.
+create table idempotency_keys (
+    idempotency_key varchar(128) not null,
+    created_at datetime(6),
+    request_hash varchar(64) not null,
+    response_body mediumtext not null,
+    primary key (idempotency_key)
+) engine=InnoDB;
+
+-- IdempotencyStore purge of expired keys.
+create index idx_idempotency_keys_created_at on idempotency_keys (created_at);
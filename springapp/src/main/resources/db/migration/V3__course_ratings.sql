@@ -0,0 +1,22 @@
+-- Reviews can name the course they rate; reviews written before this have none.
+alter table reviews add column course_id bigint;
+alter table reviews add constraint fk_reviews_course foreign key (course_id) references courses (course_id);
+
+-- ReviewRepo.findByCourseId.
+create index idx_reviews_course_id on reviews (course_id);
+
+-- Per-course rating aggregate, kept in step with reviews by ReviewServiceImpl.
+create table course_ratings (
+    course_id bigint not null,
+    rating_count integer not null default 0,
+    rating_sum bigint not null default 0,
+    stars1 integer not null default 0,
+    stars2 integer not null default 0,
+    stars3 integer not null default 0,
+    stars4 integer not null default 0,
+    stars5 integer not null default 0,
+    primary key (course_id)
+) engine=InnoDB;
+alter table course_ratings add constraint fk_course_ratings_course foreign key (course_id) references courses (course_id) on delete cascade;
+
+insert into course_ratings (course_id) select course_id from courses;
@@ -0,0 +1,5 @@
+-- Orders record when they were placed; orders placed before this have no time.
+alter table orders add column created_at datetime(6);
+
+-- OrderRepo.findCourseSalesSince, read by the bestseller leaderboard at startup.
+create index idx_orders_created_at on orders (created_at);
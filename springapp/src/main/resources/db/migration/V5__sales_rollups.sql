@@ -0,0 +1,31 @@
+-- Order lines record the price and type each course was sold at, so the course type
+-- rollups never change when a course is repriced or retyped. Lines written before
+-- this take the course's current price and type.
+alter table order_course add column unit_price float(53);
+alter table order_course add column course_type varchar(255);
+update order_course set
+    unit_price = (select c.course_price from courses c where c.course_id = order_course.course_id),
+    course_type = (select c.course_type from courses c where c.course_id = order_course.course_id);
+
+-- Daily order count and revenue per status, kept in step with orders by SalesAnalyticsServiceImpl.
+-- Orders placed before created_at was recorded have no day and are not rolled up.
+create table order_rollups (
+    sales_date date not null,
+    status varchar(255) not null,
+    order_count bigint not null default 0,
+    revenue float(53) not null default 0,
+    primary key (sales_date, status)
+) engine=InnoDB;
+
+-- Daily courses sold and their revenue per status and course type, from the order lines.
+create table course_type_rollups (
+    sales_date date not null,
+    status varchar(255) not null,
+    course_type varchar(255) not null,
+    sales bigint not null default 0,
+    revenue float(53) not null default 0,
+    primary key (sales_date, status, course_type)
+) engine=InnoDB;
+
+-- Both tables are filled from the existing orders by V5_1__BackfillSalesRollups, in Java so
+-- that each order's day is computed in the same zone as the live rollups.
@@ -0,0 +1,4 @@
+-- OrderRepo.countByStatus: count and revenue per status read from the index alone.
+-- It also serves every lookup the single-column status index did.
+create index idx_orders_status_price on orders (status, order_price);
+drop index idx_orders_status on orders;
@@ -0,0 +1,77 @@
+package com.examly.springapp.config;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.examly.springapp.model.User;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * JMH benchmark for the per-request cost of JWT validation.
+ *
+ * `perRequestBefore` reproduces the old filter path: a fresh parser keyed by the
+ * String secret for each of `extractUsername`, `isTokenValid`'s username check
+ * and its expiry check. `perRequestAfter` is the current path: one
+ * `JwtUtils.parse` on the shared parser, reused for every check.
+ *
+ * Not a unit test; run `main` from the test classpath after `mvn test-compile`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    private static final String SECRET_KEY = "mySecretKey";
+
+    private JwtUtils jwtUtils;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils(36000000L);
+        userDetails = new UserPrinciple(new User(1, "user@example.com", "secret", "user", "9999999999", "USER"));
+        token = jwtUtils.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean perRequestBefore() {
+        String username = legacyClaims().getSubject();
+        return username.equals(userDetails.getUsername())
+                && legacyClaims().getSubject().equals(userDetails.getUsername())
+                && !legacyClaims().getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean perRequestAfter() {
+        return jwtUtils.parse(token).isValidFor(userDetails);
+    }
+
+    private Claims legacyClaims() {
+        return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtUtilsBenchmark.class.getSimpleName()).build()).run();
+    }
+}
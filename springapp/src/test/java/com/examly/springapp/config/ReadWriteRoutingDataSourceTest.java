@@ -0,0 +1,104 @@
+package com.examly.springapp.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Checks the read/write routing against two embedded databases, each holding a
+ * marker row that names it.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        routing = new ReadWriteRoutingDataSource(primary, replica);
+        DataSource dataSource = ReadWriteRoutingDataSource.wrap(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadWriteRoutingDataSource.unpin();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        transactionTemplate.setReadOnly(true);
+        assertEquals("replica", transactionTemplate.execute(status -> marker()));
+        assertEquals(1, routing.getReplicaRoutes());
+    }
+
+    @Test
+    void readWriteTransactionsUseThePrimary() {
+        assertEquals("primary", transactionTemplate.execute(status -> marker()));
+        assertEquals(0, routing.getReplicaRoutes());
+    }
+
+    @Test
+    void workOutsideTransactionsUsesThePrimary() {
+        assertEquals("primary", marker());
+    }
+
+    @Test
+    void pinnedThreadsReadFromThePrimary() {
+        transactionTemplate.setReadOnly(true);
+        ReadWriteRoutingDataSource.pinToPrimary();
+        assertEquals("primary", transactionTemplate.execute(status -> marker()));
+        ReadWriteRoutingDataSource.unpin();
+        assertEquals("replica", transactionTemplate.execute(status -> marker()));
+    }
+
+    @Test
+    void interceptorClearsAStalePinBeforeRouting() {
+        transactionTemplate.setReadOnly(true);
+        ReadWriteRoutingDataSource.pinToPrimary();
+        new ReadYourWritesInterceptor(1000, 10).preHandle(new MockHttpServletRequest("GET", "/api/course"),
+                new MockHttpServletResponse(), null);
+        assertEquals("replica", transactionTemplate.execute(status -> marker()));
+    }
+
+    @Test
+    void interceptorUnpinsWhenHandlingContinuesAsynchronously() {
+        transactionTemplate.setReadOnly(true);
+        ReadWriteRoutingDataSource.pinToPrimary();
+        new ReadYourWritesInterceptor(1000, 10).afterConcurrentHandlingStarted(
+                new MockHttpServletRequest("GET", "/api/order/stream"), new MockHttpServletResponse(), null);
+        assertEquals("replica", transactionTemplate.execute(status -> marker()));
+    }
+
+    private String marker() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+                .setName(name + "-" + System.nanoTime()).build();
+        new JdbcTemplate(database).execute("CREATE TABLE marker (name VARCHAR(16))");
+        new JdbcTemplate(database).update("INSERT INTO marker VALUES (?)", name);
+        return database;
+    }
+}
@@ -0,0 +1,118 @@
+package com.examly.springapp.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the co-occurrence counts and their primitive maps without a database;
+ * the JDBC template is only used by `rebuild()`.
+ */
+class CoPurchaseIndexTest {
+
+    @Test
+    void recommendsCoursesBoughtTogether() {
+        CoPurchaseIndex index = new CoPurchaseIndex(null, 2, 1);
+        index.rebuild(new long[] { 1, 1, 1, 2, 2, 3, 3, 4 }, new long[] { 10, 20, 30, 10, 20, 10, 40, 10 }, 8);
+
+        assertEquals(List.of(20L, 30L), ids(index.alsoBought(10, 5)));
+        assertEquals(2.0, index.alsoBought(10, 5).get(0).getScore());
+        assertEquals(List.of(10L), ids(index.alsoBought(40, 5)));
+        assertEquals(List.of(), ids(index.alsoBought(99, 5)));
+
+        index.recordOrder(5, List.of(10L, 40L));
+        index.recordOrder(6, List.of(10L, 40L));
+        assertEquals(List.of(40L, 20L), ids(index.alsoBought(10, 5)));
+
+        index.removeOrder(3, List.of(10L, 40L));
+        index.removeOrder(5, List.of(10L, 40L));
+        index.removeOrder(6, List.of(10L, 40L));
+        assertEquals(List.of(), ids(index.alsoBought(40, 5)));
+    }
+
+    @Test
+    void parallelRebuildMatchesIncrementalUpdates() {
+        Random random = new Random(42);
+        List<Long> orderIds = new ArrayList<>();
+        List<Long> courseIds = new ArrayList<>();
+        CoPurchaseIndex incremental = new CoPurchaseIndex(null, 50, 1);
+        for (long order = 1; order <= 2000; order++) {
+            List<Long> basket = new ArrayList<>();
+            for (int line = random.nextInt(5); line >= 0; line--) {
+                basket.add((long) random.nextInt(40));
+                orderIds.add(order);
+                courseIds.add(basket.get(basket.size() - 1));
+            }
+            incremental.recordOrder(order, basket);
+        }
+        CoPurchaseIndex rebuilt = new CoPurchaseIndex(null, 50, 64);
+        assertEquals(2000, rebuilt.rebuild(toArray(orderIds), toArray(courseIds), orderIds.size()));
+
+        for (long course = 0; course < 40; course++) {
+            assertEquals(ids(incremental.alsoBought(course, 50)), ids(rebuilt.alsoBought(course, 50)));
+        }
+    }
+
+    @Test
+    void rebuildReplaysTheNetChangeOfEachOrder() {
+        CoPurchaseIndex index = new CoPurchaseIndex(null, 5, 1);
+        index.beginRebuild();
+        // order 3 was added and deleted while the rebuild ran, and its read missed it
+        index.recordOrder(3, List.of(10L, 30L));
+        index.removeOrder(3, List.of(10L, 30L));
+        // order 2 was read, then deleted and added again
+        index.removeOrder(2, List.of(10L, 20L));
+        index.recordOrder(2, List.of(10L, 20L));
+        // order 4 was added in time to be read, then deleted
+        index.recordOrder(4, List.of(20L, 40L));
+        index.removeOrder(4, List.of(20L, 40L));
+        // order 5 was added after the read
+        index.recordOrder(5, List.of(10L, 50L));
+        index.rebuild(new long[] { 1, 1, 2, 2, 4, 4 }, new long[] { 10, 20, 10, 20, 20, 40 }, 6);
+
+        assertEquals(List.of(20L, 50L), ids(index.alsoBought(10, 5)));
+        assertEquals(2.0, index.alsoBought(10, 5).get(0).getScore());
+        assertEquals(List.of(), ids(index.alsoBought(30, 5)));
+        assertEquals(List.of(), ids(index.alsoBought(40, 5)));
+        assertEquals(List.of(10L), ids(index.alsoBought(20, 5)));
+    }
+
+    @Test
+    void mapMatchesHashMapUnderChurn() {
+        Random random = new Random(7);
+        LongIntHashMap map = new LongIntHashMap();
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(500) - 10;
+            int delta = random.nextBoolean() ? 1 : -1;
+            map.addTo(key, delta);
+            expected.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+        assertEquals(expected.size(), map.size());
+        for (long key = -10; key < 490; key++) {
+            assertEquals(expected.getOrDefault(key, 0), map.get(key));
+        }
+    }
+
+    private static long[] toArray(List<Long> values) {
+        long[] array = new long[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    private static List<Long> ids(List<RankedCourse> ranking) {
+        List<Long> ids = new ArrayList<>();
+        for (RankedCourse ranked : ranking) {
+            ids.add(ranked.getCourseId());
+        }
+        return ids;
+    }
+}
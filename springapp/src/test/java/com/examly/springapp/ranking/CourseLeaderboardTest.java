@@ -0,0 +1,123 @@
+package com.examly.springapp.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.examly.springapp.model.CourseSaleDTO;
+
+/**
+ * Checks the sliding windows and bounded rankings without a database; the
+ * repositories are only used by `load()`.
+ */
+class CourseLeaderboardTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    private CourseLeaderboard leaderboard;
+    private long now;
+    private long nextOrderId;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new CourseLeaderboard(null, null, 2, 1);
+        now = System.currentTimeMillis();
+    }
+
+    @Test
+    void salesAreRankedPerWindow() {
+        List<CourseSaleDTO> sales = new ArrayList<>();
+        sales.add(sale(1, now));
+        sales.add(sale(2, now - 2 * 24 * HOUR));
+        sales.add(sale(2, now - 3 * 24 * HOUR));
+        sales.add(sale(3, now - 20 * 24 * HOUR));
+        sales.add(sale(3, now - 21 * 24 * HOUR));
+        sales.add(sale(3, now - 22 * 24 * HOUR));
+        sales.add(sale(4, now - 40 * 24 * HOUR));
+        leaderboard.rebuild(sales, List.of(), now);
+
+        assertEquals(List.of(1L), ids(leaderboard.topSelling(CourseLeaderboard.Window.DAY, 10)));
+        assertEquals(List.of(2L, 1L), ids(leaderboard.topSelling(CourseLeaderboard.Window.WEEK, 10)));
+        // only the configured two places are kept
+        assertEquals(List.of(3L, 2L), ids(leaderboard.topSelling(CourseLeaderboard.Window.MONTH, 10)));
+        assertEquals(List.of(3L), ids(leaderboard.topSelling(CourseLeaderboard.Window.MONTH, 1)));
+    }
+
+    @Test
+    void salesLeaveAWindowAsTheClockAdvances() {
+        // built two hours ago with a sale then 23 hours old, now 25 hours old
+        long builtAt = now - 2 * HOUR;
+        leaderboard.rebuild(List.of(sale(1, builtAt - 23 * HOUR), sale(2, builtAt)), List.of(), builtAt);
+
+        assertEquals(List.of(2L), ids(leaderboard.topSelling(CourseLeaderboard.Window.DAY, 10)));
+        assertEquals(List.of(1L, 2L), ids(leaderboard.topSelling(CourseLeaderboard.Window.WEEK, 10)));
+    }
+
+    @Test
+    void ordersAndRatingsApplyIncrementally() {
+        leaderboard.rebuild(List.of(), List.of(), now);
+        leaderboard.recordOrder(1, List.of(5L, 6L), new Date(now));
+        leaderboard.recordOrder(2, List.of(6L), new Date(now));
+        assertEquals(List.of(6L, 5L), ids(leaderboard.topSelling(CourseLeaderboard.Window.DAY, 10)));
+
+        leaderboard.removeOrder(1, List.of(6L), new Date(now));
+        leaderboard.removeOrder(2, List.of(6L), new Date(now));
+        assertEquals(List.of(5L), ids(leaderboard.topSelling(CourseLeaderboard.Window.DAY, 10)));
+
+        leaderboard.recordRating(7, 5);
+        leaderboard.recordRating(8, 4);
+        leaderboard.recordRating(8, 5);
+        assertEquals(List.of(7L, 8L), ids(leaderboard.topRated(10)));
+        assertEquals(4.5, leaderboard.topRated(10).get(1).getScore());
+
+        leaderboard.removeRating(7, 5);
+        assertEquals(List.of(8L), ids(leaderboard.topRated(10)));
+    }
+
+    @Test
+    void rebuildReplaysTheNetChangeOfEachOrder() {
+        leaderboard = new CourseLeaderboard(null, null, 10, 1);
+        leaderboard.beginRebuild();
+        Date placed = new Date(now);
+        // committed before the read but applied after the rebuild began
+        leaderboard.recordOrder(10, List.of(1L), placed);
+        // committed after the read
+        leaderboard.recordOrder(11, List.of(2L), placed);
+        // read, then deleted
+        leaderboard.removeOrder(12, List.of(3L), placed);
+        // added and deleted after the read
+        leaderboard.recordOrder(13, List.of(4L), placed);
+        leaderboard.removeOrder(13, List.of(4L), placed);
+        leaderboard.rebuild(List.of(sale(10, 1, now), sale(12, 3, now), sale(14, 1, now)), List.of(), now);
+
+        List<RankedCourse> day = leaderboard.topSelling(CourseLeaderboard.Window.DAY, 10);
+        assertEquals(List.of(1L, 2L), ids(day));
+        assertEquals(2.0, day.get(0).getScore());
+
+        // later orders apply directly again
+        leaderboard.recordOrder(15, List.of(2L), placed);
+        leaderboard.recordOrder(16, List.of(2L), placed);
+        assertEquals(List.of(2L, 1L), ids(leaderboard.topSelling(CourseLeaderboard.Window.DAY, 10)));
+    }
+
+    private CourseSaleDTO sale(long courseId, long time) {
+        return sale(++nextOrderId, courseId, time);
+    }
+
+    private static CourseSaleDTO sale(long orderId, long courseId, long time) {
+        return new CourseSaleDTO(orderId, courseId, new Date(time));
+    }
+
+    private static List<Long> ids(List<RankedCourse> ranking) {
+        List<Long> ids = new ArrayList<>();
+        for (RankedCourse ranked : ranking) {
+            ids.add(ranked.getCourseId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,240 @@
+package com.examly.springapp.repository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.examly.springapp.config.JwtPrincipalCache;
+import com.examly.springapp.config.JwtUtils;
+import com.examly.springapp.config.SecondLevelCacheConfig;
+import com.examly.springapp.config.TokenRevocationList;
+import com.examly.springapp.config.UserChangeListener;
+import com.examly.springapp.model.Cart;
+import com.examly.springapp.model.CartSummaryDTO;
+import com.examly.springapp.model.Course;
+import com.examly.springapp.model.CourseRating;
+import com.examly.springapp.model.Customer;
+import com.examly.springapp.model.OrderCourseDTO;
+import com.examly.springapp.model.OrderSummaryDTO;
+import com.examly.springapp.model.Orders;
+import com.examly.springapp.model.Review;
+import com.examly.springapp.model.ReviewSummaryDTO;
+import com.examly.springapp.model.User;
+
+/**
+ * Asserts that the order, review and cart listings load their whole object
+ * graph, or their column projections, in a fixed number of statements
+ * regardless of how many rows they return.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@Import({ JwtUtils.class, JwtPrincipalCache.class, TokenRevocationList.class, UserChangeListener.class,
+        SecondLevelCacheConfig.class })
+class FetchPlanStatementCountTest {
+
+    private static final int CUSTOMERS = 4;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private OrderRepo orderRepo;
+    @Autowired
+    private ReviewRepo reviewRepo;
+    @Autowired
+    private CartRepo cartRepo;
+    @Autowired
+    private CourseRatingRepo courseRatingRepo;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            courses.add(entityManager.persist(new Course(0, "Type" + i, "img", "details " + i, 10.0 * (i + 1))));
+        }
+        for (int i = 0; i < CUSTOMERS; i++) {
+            User user = entityManager.persist(new User(0, "user" + i + "@example.com", "hash", "user" + i, "99999", "USER"));
+            Customer customer = entityManager.persist(new Customer(0, "Customer " + i, "info", user));
+            entityManager.persist(new Orders(0, 30.0, new ArrayList<>(courses.subList(0, 2)), customer, "PENDING"));
+            entityManager.persist(new Orders(0, 60.0, new ArrayList<>(courses), customer, "ACCEPTED"));
+            Review review = new Review(0, "Subject", "Body", 5, new Date(), customer);
+            review.setCourse(courses.get(i % courses.size()));
+            entityManager.persist(review);
+            Cart cart = new Cart();
+            cart.setCustomer(customer);
+            cart.setCourses(new ArrayList<>(courses.subList(1, 3)));
+            cart.setTotalAmount(50.0);
+            entityManager.persist(cart);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        // start every test with a cold second-level cache, so lazy loads show up as statements
+        entityManager.getEntityManager().getEntityManagerFactory().getCache().evictAll();
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getAllOrdersIsOneStatement() {
+        List<Orders> orders = orderRepo.findAll();
+        for (Orders order : orders) {
+            order.getCourses().size();
+            order.getCustomer().getUser().getEmail();
+        }
+        assertEquals(2 * CUSTOMERS, orders.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getOrdersByCustomerIsOneStatement() {
+        long customerId = orderRepo.findAll().get(0).getCustomer().getCustomerId();
+        entityManager.clear();
+        statistics.clear();
+        List<Orders> orders = orderRepo.findByCustomerId(customerId);
+        orders.forEach(order -> order.getCourses().size());
+        assertEquals(2, orders.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void streamAllOrdersIsOneStatement() {
+        int orders = 0;
+        int lines = 0;
+        try (Stream<Orders> stream = orderRepo.streamAll()) {
+            for (Orders order : (Iterable<Orders>) stream::iterator) {
+                lines += order.getCourses().size();
+                order.getCustomer().getUser().getEmail();
+                entityManager.detach(order);
+                orders++;
+            }
+        }
+        assertEquals(2 * CUSTOMERS, orders);
+        assertEquals(5 * CUSTOMERS, lines);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getAllReviewsIsOneStatement() {
+        List<Review> reviews = reviewRepo.findAll();
+        reviews.forEach(review -> review.getCustomer().getUser().getEmail());
+        reviews.forEach(review -> review.getCourse().getCourseType());
+        assertEquals(CUSTOMERS, reviews.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getReviewsByUserAndCourseAreOneStatementEach() {
+        Review first = reviewRepo.findAll().get(0);
+        long userId = first.getCustomer().getUser().getUserId();
+        long courseId = first.getCourse().getCourseId();
+        entityManager.clear();
+        entityManager.getEntityManager().getEntityManagerFactory().getCache().evictAll();
+        statistics.clear();
+        List<Review> byUser = reviewRepo.findByUserId(userId);
+        byUser.forEach(review -> review.getCourse().getCourseType());
+        List<Review> byCourse = reviewRepo.findByCourseId(courseId);
+        byCourse.forEach(review -> review.getCustomer().getUser().getEmail());
+        assertEquals(1, byUser.size());
+        assertEquals((CUSTOMERS + 2) / 3, byCourse.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getAllCartsIsOneStatement() {
+        List<Cart> carts = cartRepo.findAll();
+        for (Cart cart : carts) {
+            cart.getCourses().size();
+            cart.getCustomer().getUser().getEmail();
+        }
+        assertEquals(CUSTOMERS, carts.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void cartCourseDeltasWriteOneRow() {
+        long cartId = cartRepo.findAll().get(0).getCartId();
+        long courseId = orderRepo.findOrderCourseLines().get(0).getCourseId();
+        entityManager.clear();
+        statistics.clear();
+        assertEquals(1, cartRepo.insertCourse(cartId, courseId));
+        assertEquals(0, cartRepo.insertCourse(cartId, courseId));
+        assertEquals(0, cartRepo.insertCourse(cartId, -1));
+        assertEquals(1, cartRepo.deleteCourse(cartId, courseId));
+        assertEquals(0, cartRepo.deleteCourse(cartId, courseId));
+        assertEquals(5, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void cartTotalsFollowDeltasAndPriceChanges() {
+        long cartId = cartRepo.findAll().get(0).getCartId();
+        Course course = entityManager.persist(new Course(0, "Extra", "img", "extra", 12.5));
+        entityManager.flush();
+        cartRepo.insertCourse(cartId, course.getCourseId());
+        cartRepo.addToTotal(cartId, course.getCourseId());
+        assertEquals(62.5, cartRepo.findTotalAmount(cartId));
+        course.setCoursePrice(20.0);
+        assertEquals(1, cartRepo.repriceCartsContaining(course.getCourseId()));
+        assertEquals(70.0, cartRepo.findTotalAmount(cartId));
+        cartRepo.deleteCourse(cartId, course.getCourseId());
+        cartRepo.subtractFromTotal(cartId, course.getCourseId());
+        assertEquals(50.0, cartRepo.findTotalAmount(cartId));
+    }
+
+    @Test
+    void courseRatingsFollowReviewWrites() {
+        Course course = entityManager.persist(new Course(0, "Rated", "img", "rated", 15.0));
+        entityManager.persist(new CourseRating(course.getCourseId()));
+        entityManager.flush();
+        assertEquals(1, courseRatingRepo.addRating(course.getCourseId(), 5));
+        assertEquals(1, courseRatingRepo.addRating(course.getCourseId(), 2));
+        assertEquals(1, courseRatingRepo.addRating(course.getCourseId(), 5));
+        assertEquals(1, courseRatingRepo.removeRating(course.getCourseId(), 2));
+        entityManager.clear();
+        CourseRating rating = courseRatingRepo.findById(course.getCourseId()).get();
+        assertEquals(2, rating.getRatingCount());
+        assertEquals(5.0, rating.getAverageRating());
+        assertArrayEquals(new int[] { 0, 0, 0, 0, 2 }, rating.getHistogram());
+        Course loaded = entityManager.find(Course.class, course.getCourseId());
+        assertEquals(2, loaded.getRatingCount());
+        assertEquals(5.0, loaded.getAverageRating());
+    }
+
+    @Test
+    void orderSummariesAreTwoStatements() {
+        List<OrderSummaryDTO> summaries = orderRepo.findOrderSummaries();
+        List<OrderCourseDTO> lines = orderRepo.findOrderCourseLines();
+        assertEquals(2 * CUSTOMERS, summaries.size());
+        assertEquals(5 * CUSTOMERS, lines.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void reviewAndCartSummariesAreOneStatementEach() {
+        List<ReviewSummaryDTO> reviews = reviewRepo.findReviewSummaries();
+        List<CartSummaryDTO> carts = cartRepo.findCartSummaries();
+        assertEquals(CUSTOMERS, reviews.size());
+        assertEquals(2, carts.get(0).getCourseCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
@@ -0,0 +1,133 @@
+package com.examly.springapp.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.CoreMigrationType;
+import org.hibernate.dialect.MySQLDialect;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.TestPropertySource;
+
+import com.examly.springapp.config.JwtPrincipalCache;
+import com.examly.springapp.config.JwtUtils;
+import com.examly.springapp.config.SecondLevelCacheConfig;
+import com.examly.springapp.config.TokenRevocationList;
+import com.examly.springapp.config.UserChangeListener;
+import com.examly.springapp.repository.migration.V5_1__BackfillSalesRollups;
+
+/**
+ * Runs the Flyway migrations and then lets Hibernate validate the entities
+ * against the resulting schema, both on an empty database and on one that
+ * already has the baseline schema and is baselined past V1.
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:flyway_empty;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=com.examly.springapp.repository.FlywaySchemaValidationTest$H2MySqlModeDialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ JwtUtils.class, JwtPrincipalCache.class, TokenRevocationList.class, UserChangeListener.class,
+        SecondLevelCacheConfig.class, V5_1__BackfillSalesRollups.class,
+        FlywaySchemaValidationTest.PreFlywaySchemaStrategy.class })
+class FlywaySchemaValidationTest {
+
+    private static final String PRE_FLYWAY_SCHEMA = "db/pre_flyway_schema.sql";
+
+    @Nested
+    class EmptyDatabase {
+
+        @Autowired
+        private Flyway flyway;
+
+        @Test
+        void migratesFromV1() {
+            MigrationInfo[] applied = flyway.info().applied();
+            assertEquals("1", applied[0].getVersion().getVersion());
+            assertEquals(CoreMigrationType.SQL, applied[0].getType());
+            assertTrue(Arrays.stream(applied).anyMatch(info -> info.getType() == CoreMigrationType.JDBC));
+            assertEquals(0, flyway.info().pending().length);
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = {
+            "spring.datasource.url=jdbc:h2:mem:flyway_baselined;MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "test.flyway.pre-flyway-schema=true"
+    })
+    class BaselinedDatabase {
+
+        @Autowired
+        private Flyway flyway;
+
+        @Test
+        void baselinesAtV1AndMigratesTheRest() {
+            MigrationInfo[] applied = flyway.info().applied();
+            assertEquals("1", applied[0].getVersion().getVersion());
+            assertEquals(CoreMigrationType.BASELINE, applied[0].getType());
+            assertEquals(0, flyway.info().pending().length);
+        }
+    }
+
+    /**
+     * The MySQL dialect, except that it accepts the VARCHAR that H2 in MySQL
+     * mode reports for a `mediumtext` column where MySQL reports a text type.
+     */
+    public static class H2MySqlModeDialect extends MySQLDialect {
+
+        @Override
+        public boolean equivalentTypes(int typeCode1, int typeCode2) {
+            return super.equivalentTypes(typeCode1, typeCode2)
+                    || isText(typeCode1) && isText(typeCode2);
+        }
+
+        private static boolean isText(int typeCode) {
+            return typeCode == Types.CLOB || typeCode == Types.VARCHAR;
+        }
+    }
+
+    /**
+     * Creates the pre-Flyway tables before Flyway runs when asked to, the way a
+     * database first created by `ddl-auto=update` already has them.
+     */
+    @TestConfiguration
+    static class PreFlywaySchemaStrategy {
+
+        @Bean
+        FlywayMigrationStrategy flywayMigrationStrategy(
+                @Value("${test.flyway.pre-flyway-schema:false}") boolean preFlywaySchema) {
+            return flyway -> {
+                if (preFlywaySchema) {
+                    try (Connection connection = flyway.getConfiguration().getDataSource().getConnection()) {
+                        ScriptUtils.executeSqlScript(connection, new ClassPathResource(PRE_FLYWAY_SCHEMA));
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                flyway.migrate();
+            };
+        }
+    }
+}